@@ -17,8 +17,11 @@ package org.salespointframework;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.salespointframework.inventory.LineItemFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -33,7 +36,10 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.lang.Nullable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Application configuration for Salespoint.
@@ -50,9 +56,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @ConfigurationPropertiesScan
 public class Salespoint {
 
+	@Autowired ObjectProvider<PasswordEncoder> passwordEncoders;
+
+	/**
+	 * Returns a {@link BCryptPasswordEncoder} delegating to the {@link PasswordEncoder} used by Salespoint, so that code
+	 * still injecting a {@link BCryptPasswordEncoder} keeps working.
+	 *
+	 * @return will never be {@literal null}.
+	 * @deprecated since 8.0, as the {@link PasswordEncoder} is provided by the user account module and is not a
+	 *             {@link BCryptPasswordEncoder} anymore. Inject the {@link PasswordEncoder} instead.
+	 */
 	@Bean
+	@Deprecated
 	public BCryptPasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		return new DelegatingBCryptPasswordEncoder(SingletonSupplier.of(passwordEncoders::getObject));
 	}
 
 	@Bean
@@ -60,6 +77,49 @@ public class Salespoint {
 		return LineItemFilter.handleAll();
 	}
 
+	/**
+	 * A {@link BCryptPasswordEncoder} that delegates to the {@link PasswordEncoder} used by Salespoint, so that hashes
+	 * created and verified through it are compatible with the ones of the user account module.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	private static class DelegatingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+		private final Supplier<PasswordEncoder> delegate;
+
+		DelegatingBCryptPasswordEncoder(Supplier<PasswordEncoder> delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder#encode(java.lang.CharSequence)
+		 */
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return delegate.get().encode(rawPassword);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder#matches(java.lang.CharSequence, java.lang.String)
+		 */
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return delegate.get().matches(rawPassword, encodedPassword);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder#upgradeEncoding(java.lang.String)
+		 */
+		@Override
+		public boolean upgradeEncoding(@Nullable String encodedPassword) {
+			return delegate.get().upgradeEncoding(encodedPassword);
+		}
+	}
+
 	/**
 	 * Needed until https://github.com/spring-projects/spring-boot/issues/12194 and
 	 * https://github.com/spring-projects/spring-boot/issues/16747 are fixed.
@@ -83,6 +143,13 @@ public class Salespoint {
 			properties.put("spring.datasource.generate-unique-name", true);
 
 			sources.addFirst(new MapPropertySource("salespointDefaults", properties));
+
+			// Fallbacks that can be overridden by the application, e.g. to batch the inserts of bulk user account creation
+			Map<String, Object> fallbacks = new HashMap<>();
+			fallbacks.put("spring.jpa.properties.hibernate.jdbc.batch_size", 50);
+			fallbacks.put("spring.jpa.properties.hibernate.order_inserts", true);
+
+			sources.addLast(new MapPropertySource("salespointFallbacks", fallbacks));
 		}
 	}
 }
@@ -16,12 +16,17 @@
 package org.salespointframework.accountancy;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.money.MonetaryAmount;
 
+import org.salespointframework.core.ContinuationToken;
+import org.salespointframework.core.KeysetSlice;
+import org.salespointframework.order.OrderIdentifier;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
 import org.springframework.data.util.Streamable;
@@ -44,9 +49,33 @@ public interface Accountancy {
 	 *
 	 * @param accountancyEntry entry to be added to the accountancy, must not be {@literal null}.
 	 * @return the added {@link AccountancyEntry}.
+	 * @throws IllegalArgumentException in case the {@link AccountancyEntry} is dated at or before the end of the
+	 *           {@link ClosedPeriod} ending last.
 	 */
 	<T extends AccountancyEntry> T add(T accountancyEntry);
 
+	/**
+	 * Closes the period described by the given {@link Interval}, i.e. persists the balance of all
+	 * {@link AccountancyEntry}s dated up to and including its end as checkpoint for {@link #balanceAt(LocalDateTime)}.
+	 * Afterwards, {@link #add(AccountancyEntry)} rejects {@link AccountancyEntry}s dated at or before its end.
+	 *
+	 * @param interval must not be {@literal null}, end in the future or start before the end of the last closed period.
+	 * @return the {@link ClosedPeriod}, will never be {@literal null}.
+	 * @since 8.0
+	 */
+	ClosedPeriod closePeriod(Interval interval);
+
+	/**
+	 * Returns the balance of all {@link AccountancyEntry}s dated at or before the given date. Starts from the balance of
+	 * the {@link ClosedPeriod} ending last before the given date and only reads the {@link AccountancyEntry}s after it.
+	 *
+	 * @param date must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see #closePeriod(Interval)
+	 */
+	MonetaryAmount balanceAt(LocalDateTime date);
+
 	/**
 	 * Returns all {@link AccountancyEntry}s of the specified type {@code clazz} and all sub-types, previously added to
 	 * the accountancy. If no entries of the specified type exist, an empty {@code Iterable} is returned.
@@ -78,6 +107,46 @@ public interface Accountancy {
 	 */
 	Streamable<AccountancyEntry> find(Interval interval);
 
+	/**
+	 * Returns all {@link ProductPaymentEntry}s for the {@link org.salespointframework.order.Order} with the given
+	 * {@link OrderIdentifier}.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	Streamable<ProductPaymentEntry> findEntriesFor(OrderIdentifier orderIdentifier);
+
+	/**
+	 * Returns all {@link AccountancyEntry}s as {@link Stream} backed by a database cursor. The entries are detached from
+	 * the persistence context once consumed, unless configured otherwise via
+	 * {@code salespoint.streaming.disable-detaching}. Has to be called within a transaction and the {@link Stream} has to
+	 * be closed after use. The default implementation falls back to {@link #findAll()} and thus reads all entries into
+	 * memory.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see org.salespointframework.core.EntityStreams
+	 */
+	default Stream<AccountancyEntry> streamAll() {
+		return findAll().stream();
+	}
+
+	/**
+	 * Returns all {@link AccountancyEntry}s within the given {@link Interval} as {@link Stream} backed by a database
+	 * cursor. Has to be called within a transaction and the {@link Stream} has to be closed after use. The default
+	 * implementation falls back to {@link #find(Interval)} and thus reads all entries within the {@link Interval} into
+	 * memory.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see #streamAll()
+	 */
+	default Stream<AccountancyEntry> stream(Interval interval) {
+		return find(interval).stream();
+	}
+
 	/**
 	 * Returns all {@link AccountancyEntry}s which have their {@code date} within the given {@link Interval}. The
 	 * {@link Interval} is divided into parts of length of the given {@link Duration}. According to their respective date,
@@ -115,4 +184,26 @@ public interface Accountancy {
 	 *         {@link Interval}.
 	 */
 	Map<Interval, MonetaryAmount> salesVolume(Interval interval, TemporalAmount duration);
+
+	/**
+	 * Returns the first {@link KeysetSlice} of {@link AccountancyEntry}s ordered by their date and identifier. Use
+	 * {@link KeysetSlice#getContinuationToken()} to look up the next {@link KeysetSlice} via
+	 * {@link #findSlice(ContinuationToken, int)}. No count query is issued.
+	 *
+	 * @param size the maximum number of {@link AccountancyEntry}s to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	KeysetSlice<AccountancyEntry> findSlice(int size);
+
+	/**
+	 * Returns the {@link KeysetSlice} of {@link AccountancyEntry}s following the position described by the given
+	 * {@link ContinuationToken}, ordered by their date and identifier.
+	 *
+	 * @param token must not be {@literal null}.
+	 * @param size the maximum number of {@link AccountancyEntry}s to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	KeysetSlice<AccountancyEntry> findSlice(ContinuationToken token, int size);
 }
@@ -28,11 +28,15 @@ import java.util.Optional;
 import javax.money.MonetaryAmount;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 import org.salespointframework.core.AbstractEntity;
 import org.salespointframework.core.Currencies;
+import org.salespointframework.support.EmbeddableMonetaryAmount;
 import org.springframework.util.Assert;
 
 /**
@@ -43,6 +47,10 @@ import org.springframework.util.Assert;
  * @author Oliver Gierke
  */
 @Entity
+@Table(indexes = { //
+		@Index(name = "IDX_ACCOUNTANCY_ENTRY_DATE", columnList = "date, ENTRY_ID"), //
+		@Index(name = "IDX_ACCOUNTANCY_ENTRY_ORDER", columnList = "ORDER_ID") // see ProductPaymentEntry
+})
 @ToString
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier> {
@@ -57,7 +65,12 @@ public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier>
 	@EmbeddedId @AttributeOverride(name = "id", column = @Column(name = "ENTRY_ID", nullable = false)) //
 	private AccountancyEntryIdentifier accountancyEntryIdentifier = new AccountancyEntryIdentifier();
 
-	private @Getter MonetaryAmount value = Currencies.ZERO_EURO;
+	@Embedded //
+	@AttributeOverride(name = "amount", column = @Column(name = "VALUE_AMOUNT", precision = 38, scale = 18)) //
+	@AttributeOverride(name = "currency", column = @Column(name = "VALUE_CURRENCY", length = 3)) //
+	@AttributeOverride(name = "legacy", column = @Column(name = "VALUE", insertable = false, updatable = false)) //
+	private EmbeddableMonetaryAmount value = EmbeddableMonetaryAmount.of(Currencies.ZERO_EURO);
+
 	private @Setter(AccessLevel.PACKAGE) LocalDateTime date = null;
 	private @Getter String description = "";
 
@@ -81,10 +94,19 @@ public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier>
 		Assert.notNull(value, "Value must not be null");
 		Assert.notNull(description, "Description must not be null");
 
-		this.value = value;
+		this.value = EmbeddableMonetaryAmount.of(value);
 		this.description = description;
 	}
 
+	/**
+	 * Returns the value of the entry.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public MonetaryAmount getValue() {
+		return value.toMonetaryAmount();
+	}
+
 	/**
 	 * Returns whether the {@link AccountancyEntry} already has a {@link Date} set.
 	 *
@@ -117,7 +139,7 @@ public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier>
 	 * @since 7.1
 	 */
 	public boolean isRevenue() {
-		return value.isPositiveOrZero();
+		return getValue().isPositiveOrZero();
 	}
 
 	/**
@@ -127,6 +149,6 @@ public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier>
 	 * @since 7.1
 	 */
 	public boolean isExpense() {
-		return value.isNegative();
+		return getValue().isNegative();
 	}
 }
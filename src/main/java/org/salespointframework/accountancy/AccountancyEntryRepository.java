@@ -15,10 +15,18 @@
  */
 package org.salespointframework.accountancy;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
 import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.order.OrderIdentifier;
 import org.salespointframework.time.Interval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
@@ -38,6 +46,86 @@ interface AccountancyEntryRepository extends SalespointRepository<AccountancyEnt
 	 */
 	Streamable<AccountancyEntry> findByDateBetween(LocalDateTime from, LocalDateTime to);
 
+	/**
+	 * Returns all {@link AccountancyEntry}s dated at or after the given start and before the given end.
+	 *
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	Streamable<AccountancyEntry> findByDateGreaterThanEqualAndDateLessThan(LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * Returns the number of {@link AccountancyEntry}s that have a date set, i.e. that were added to the
+	 * {@link Accountancy}.
+	 *
+	 * @return
+	 * @since 8.0
+	 */
+	long countByDateIsNotNull();
+
+	/**
+	 * Returns all {@link ProductPaymentEntry}s for the {@link org.salespointframework.order.Order} with the given
+	 * {@link OrderIdentifier}.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select e from ProductPaymentEntry e where e.orderIdentifier = ?1")
+	Streamable<ProductPaymentEntry> findByOrderIdentifier(OrderIdentifier orderIdentifier);
+
+	/**
+	 * Returns the sums of the values of all {@link AccountancyEntry}s dated at or before the given date per currency.
+	 *
+	 * @param to must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select e.value.currency as currency, sum(e.value.amount) as amount from #{#entityName} e " //
+			+ "where e.date <= ?1 group by e.value.currency")
+	Streamable<CurrencyTotal> sumByDateLessThanEqual(LocalDateTime to);
+
+	/**
+	 * Returns the sums of the values of all {@link AccountancyEntry}s dated after the given start and at or before the
+	 * given end per currency.
+	 *
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select e.value.currency as currency, sum(e.value.amount) as amount from #{#entityName} e " //
+			+ "where e.date > ?1 and e.date <= ?2 group by e.value.currency")
+	Streamable<CurrencyTotal> sumByDateGreaterThanAndDateLessThanEqual(LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * Returns the first {@link Slice} of {@link AccountancyEntry}s ordered by their date and identifier.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select e from #{#entityName} e where e.date is not null " //
+			+ "order by e.date, e.accountancyEntryIdentifier.id")
+	Slice<AccountancyEntry> findSlice(Pageable pageable);
+
+	/**
+	 * Returns the {@link Slice} of {@link AccountancyEntry}s ordered by their date and identifier that follows the
+	 * {@link AccountancyEntry} with the given date and identifier.
+	 *
+	 * @param date must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select e from #{#entityName} e " //
+			+ "where e.date > ?1 or (e.date = ?1 and e.accountancyEntryIdentifier.id > ?2) " //
+			+ "order by e.date, e.accountancyEntryIdentifier.id")
+	Slice<AccountancyEntry> findSliceAfter(LocalDateTime date, String identifier, Pageable pageable);
+
 	/**
 	 * Returns all {@link AccountancyEntry}s within the given {@link Interval}.
 	 *
@@ -50,4 +138,21 @@ interface AccountancyEntryRepository extends SalespointRepository<AccountancyEnt
 
 		return findByDateBetween(interval.getStart(), interval.getEnd());
 	}
+
+	/**
+	 * The sum of the values of {@link AccountancyEntry}s in a single currency.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	interface CurrencyTotal {
+
+		String getCurrency();
+
+		BigDecimal getAmount();
+
+		default MonetaryAmount toMonetaryAmount() {
+			return Money.of(getAmount().stripTrailingZeros(), getCurrency());
+		}
+	}
 }
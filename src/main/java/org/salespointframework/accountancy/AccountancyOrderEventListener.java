@@ -63,9 +63,8 @@ public class AccountancyOrderEventListener {
 
 		Order order = event.getOrder();
 
-		if (accountancy.findAll().stream() //
-				.map(ProductPaymentEntry.class::cast) //
-				.anyMatch(it -> it.belongsTo(order) && it.isRevenue())) {
+		if (accountancy.findEntriesFor(order.getId()).stream() //
+				.anyMatch(ProductPaymentEntry::isRevenue)) {
 
 			accountancy.add(ProductPaymentEntry.rollback(order,
 					String.format("Order %s cancelled! Reason: %s.", order.getId(), event.getReason())));
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import lombok.Value;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure Salespoint's accountancy. Declare {@code salespoint.accountancy.…} in application properties
+ * to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.accountancy")
+class AccountancyProperties {
+
+	/**
+	 * Enable the parallel evaluation of the buckets of {@link Accountancy#find(org.salespointframework.time.Interval,
+	 * java.time.temporal.TemporalAmount)} and {@link Accountancy#salesVolume(org.salespointframework.time.Interval,
+	 * java.time.temporal.TemporalAmount)}, defaults to {@literal false}.
+	 */
+	private boolean enableParallelReports;
+
+	/**
+	 * The maximum number of ranges of buckets evaluated concurrently, defaults to the number of available processors.
+	 * Each range holds a connection while being evaluated, so this should leave room in the connection pool for the
+	 * transactions of all concurrent callers.
+	 */
+	private @Nullable Integer reportParallelism;
+
+	/**
+	 * Returns the maximum number of ranges of buckets evaluated concurrently.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getReportParallelism() {
+		return reportParallelism == null ? Runtime.getRuntime().availableProcessors() : Math.max(1, reportParallelism);
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.springframework.util.Assert;
+
+/**
+ * The aggregated values of all {@link AccountancyEntry}s of a single currency dated within an hour or a day, starting
+ * at {@link #start} inclusive. Entries dated exactly at the start are additionally tracked separately, as
+ * {@link org.salespointframework.time.Interval}s are closed and thus contain entries dated at their end, too.
+ * Maintained via bulk updates by {@link AccountancyRollups} and only read via {@link RollupTotals} projections so that
+ * no stale instances are held in the persistence context.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see AccountancyRollups
+ */
+@Entity
+@Table(name = "ACCOUNTANCY_ROLLUP",
+		indexes = @Index(name = "IDX_ACCOUNTANCY_ROLLUP_START", columnList = "granularity, PERIOD_START"))
+@NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
+class AccountancyRollup {
+
+	private @Id String id;
+	private @Enumerated(EnumType.STRING) Granularity granularity;
+	private @Column(name = "PERIOD_START") LocalDateTime start;
+	private @Column(length = 3) String currency;
+
+	private @Column(precision = 38, scale = 18) BigDecimal revenue = BigDecimal.ZERO;
+	private @Column(precision = 38, scale = 18) BigDecimal expense = BigDecimal.ZERO;
+	private long entries = 0;
+
+	private @Column(precision = 38, scale = 18) BigDecimal valueAtStart = BigDecimal.ZERO;
+	private long entriesAtStart = 0;
+
+	/**
+	 * Creates a new, empty {@link AccountancyRollup} for the given {@link Granularity}, start date and currency.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param start must not be {@literal null} and aligned to the given {@link Granularity}.
+	 * @param currency must not be {@literal null} or empty.
+	 */
+	AccountancyRollup(Granularity granularity, LocalDateTime start, String currency) {
+
+		Assert.notNull(granularity, "Granularity must not be null!");
+		Assert.isTrue(granularity.isAligned(start), "Start must be aligned to the granularity!");
+		Assert.hasText(currency, "Currency must not be null or empty!");
+
+		this.id = getId(granularity, start, currency);
+		this.granularity = granularity;
+		this.start = start;
+		this.currency = currency;
+	}
+
+	/**
+	 * Returns the identifier of the {@link AccountancyRollup} for the given {@link Granularity}, start date and currency.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param start must not be {@literal null}.
+	 * @param currency must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String getId(Granularity granularity, LocalDateTime start, String currency) {
+		return granularity.name() + "|" + start + "|" + currency;
+	}
+
+	/**
+	 * Adds the given value dated at the given date to the current {@link AccountancyRollup}. Only used to rebuild
+	 * {@link AccountancyRollup}s, regular updates are applied in bulk via
+	 * {@link AccountancyRollupRepository#increment(String, BigDecimal, BigDecimal, BigDecimal, long)}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param date must not be {@literal null}.
+	 * @return the current instance.
+	 */
+	AccountancyRollup add(BigDecimal value, LocalDateTime date) {
+
+		if (value.signum() < 0) {
+			this.expense = expense.add(value);
+		} else {
+			this.revenue = revenue.add(value);
+		}
+
+		this.entries++;
+
+		if (date.isEqual(start)) {
+			this.valueAtStart = valueAtStart.add(value);
+			this.entriesAtStart++;
+		}
+
+		return this;
+	}
+
+	/**
+	 * The time spans {@link AccountancyRollup}s aggregate {@link AccountancyEntry}s for.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	enum Granularity {
+
+		HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+		private final ChronoUnit unit;
+
+		Granularity(ChronoUnit unit) {
+			this.unit = unit;
+		}
+
+		/**
+		 * Returns the start of the period the given date is contained in.
+		 *
+		 * @param date must not be {@literal null}.
+		 * @return
+		 */
+		LocalDateTime floor(LocalDateTime date) {
+			return date.truncatedTo(unit);
+		}
+
+		/**
+		 * Returns the start of the first period starting at or after the given date.
+		 *
+		 * @param date must not be {@literal null}.
+		 * @return
+		 */
+		LocalDateTime ceil(LocalDateTime date) {
+
+			var floor = floor(date);
+
+			return floor.isEqual(date) ? floor : floor.plus(1, unit);
+		}
+
+		/**
+		 * Returns whether the given date is the start of a period.
+		 *
+		 * @param date must not be {@literal null}.
+		 * @return
+		 */
+		boolean isAligned(LocalDateTime date) {
+			return floor(date).isEqual(date);
+		}
+	}
+
+	/**
+	 * Projection to read the values of {@link AccountancyRollup}s.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	interface RollupTotals {
+
+		LocalDateTime getStart();
+
+		String getCurrency();
+
+		BigDecimal getRevenue();
+
+		BigDecimal getExpense();
+
+		long getEntries();
+
+		BigDecimal getValueAtStart();
+
+		long getEntriesAtStart();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
+import org.salespointframework.accountancy.AccountancyRollup.RollupTotals;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for {@link AccountancyRollup}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+interface AccountancyRollupRepository extends CrudRepository<AccountancyRollup, String> {
+
+	/**
+	 * Adds the given values to the {@link AccountancyRollup} with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param revenue must not be {@literal null}.
+	 * @param expense must not be {@literal null}.
+	 * @param valueAtStart must not be {@literal null}.
+	 * @param entriesAtStart the number of entries dated exactly at the start of the {@link AccountancyRollup}.
+	 * @return the number of {@link AccountancyRollup}s updated, i.e. {@literal 0} if none exists for the identifier yet.
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("update AccountancyRollup r set r.revenue = r.revenue + ?2, r.expense = r.expense + ?3, " //
+			+ "r.entries = r.entries + 1, r.valueAtStart = r.valueAtStart + ?4, r.entriesAtStart = r.entriesAtStart + ?5 " //
+			+ "where r.id = ?1")
+	int increment(String id, BigDecimal revenue, BigDecimal expense, BigDecimal valueAtStart, long entriesAtStart);
+
+	/**
+	 * Returns the values of all {@link AccountancyRollup}s of the given {@link Granularity} starting between the given
+	 * dates, both inclusive.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return
+	 */
+	Streamable<RollupTotals> findByGranularityAndStartBetween(Granularity granularity, LocalDateTime from,
+			LocalDateTime to);
+
+	/**
+	 * Returns the number of {@link AccountancyEntry}s aggregated in {@link AccountancyRollup}s of the given
+	 * {@link Granularity}.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @return
+	 */
+	@Query("select coalesce(sum(r.entries), 0) from AccountancyRollup r where r.granularity = ?1")
+	long countEntries(Granularity granularity);
+
+	/**
+	 * Deletes all {@link AccountancyRollup}s.
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("delete from AccountancyRollup r")
+	void deleteAllRollups();
+}
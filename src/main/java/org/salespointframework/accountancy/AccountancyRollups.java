@@ -0,0 +1,355 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static java.util.stream.Collectors.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
+import org.salespointframework.accountancy.AccountancyRollup.RollupTotals;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.core.EntityStreams;
+import org.salespointframework.core.MoneySum;
+import org.salespointframework.time.Interval;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Maintains per-hour and per-day {@link AccountancyRollup}s of the {@link AccountancyEntry}s added via
+ * {@link Accountancy#add(AccountancyEntry)} and calculates sales volumes from them. Whether the
+ * {@link AccountancyRollup}s cover all {@link AccountancyEntry}s, i.e. whether no {@link AccountancyEntry} has been
+ * stored bypassing the {@link Accountancy}, is verified once on application startup and they're rebuilt if that's not
+ * the case. Until then, sales volumes are not calculated from the {@link AccountancyRollup}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+class AccountancyRollups {
+
+	/**
+	 * The maximum number of reads of raw {@link AccountancyEntry}s for the partial edges of the buckets not aligned to
+	 * full hours. If more are needed, the sales volume is calculated from the raw entries entirely.
+	 */
+	private static final int MAX_RAW_READS = 2;
+
+	private final AccountancyRollupRepository rollups;
+	private final AccountancyEntryRepository entries;
+	private final EntityStreams streams;
+	private final TransactionTemplate transactions, creation;
+
+	private volatile boolean complete = false;
+
+	/**
+	 * Creates a new {@link AccountancyRollups} for the given repositories, {@link EntityStreams} and
+	 * {@link PlatformTransactionManager}.
+	 *
+	 * @param rollups must not be {@literal null}.
+	 * @param entries must not be {@literal null}.
+	 * @param streams must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 */
+	AccountancyRollups(AccountancyRollupRepository rollups, AccountancyEntryRepository entries, EntityStreams streams,
+			PlatformTransactionManager transactionManager) {
+
+		Assert.notNull(rollups, "AccountancyRollupRepository must not be null!");
+		Assert.notNull(entries, "AccountancyEntryRepository must not be null!");
+		Assert.notNull(streams, "EntityStreams must not be null!");
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null!");
+
+		this.rollups = rollups;
+		this.entries = entries;
+		this.streams = streams;
+		this.transactions = new TransactionTemplate(transactionManager);
+
+		// Empty rollups are created in separate transactions so that concurrent creation doesn't fail the current one
+		this.creation = new TransactionTemplate(transactionManager);
+		this.creation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * Adds the given, dated {@link AccountancyEntry} to the {@link AccountancyRollup}s it belongs to.
+	 *
+	 * @param entry must not be {@literal null}.
+	 */
+	void add(AccountancyEntry entry) {
+
+		Assert.notNull(entry, "AccountancyEntry must not be null!");
+
+		var date = entry.getDate().orElseThrow(() -> new IllegalArgumentException("AccountancyEntry must be dated!"));
+		var value = entry.getValue();
+		var number = value.getNumber().numberValue(BigDecimal.class);
+		var currency = value.getCurrency().getCurrencyCode();
+
+		var revenue = number.signum() < 0 ? BigDecimal.ZERO : number;
+		var expense = number.signum() < 0 ? number : BigDecimal.ZERO;
+
+		for (var granularity : Granularity.values()) {
+
+			var start = granularity.floor(date);
+			var id = AccountancyRollup.getId(granularity, start, currency);
+			var atStart = date.isEqual(start);
+			var valueAtStart = atStart ? number : BigDecimal.ZERO;
+			var entriesAtStart = atStart ? 1 : 0;
+
+			if (rollups.increment(id, revenue, expense, valueAtStart, entriesAtStart) == 0) {
+
+				createIfAbsent(granularity, start, currency);
+				rollups.increment(id, revenue, expense, valueAtStart, entriesAtStart);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the sales volume for each of the given buckets from the {@link AccountancyRollup}s. The parts of the
+	 * buckets not aligned to full hours are calculated from the raw {@link AccountancyEntry}s.
+	 *
+	 * @param buckets must not be {@literal null}.
+	 * @return the sales volumes in the order of the given buckets or {@link Optional#empty()} in case the sales volume
+	 *         cannot be calculated from the {@link AccountancyRollup}s efficiently, i.e. too many bucket boundaries aren't
+	 *         aligned to full hours or the {@link AccountancyRollup}s are incomplete.
+	 */
+	Optional<List<MonetaryAmount>> salesVolume(List<Interval> buckets) {
+
+		Assert.notNull(buckets, "Buckets must not be null!");
+
+		var segments = buckets.stream() //
+				.map(Bucket::new) //
+				.collect(toList());
+
+		if (!complete || segments.stream().mapToInt(Bucket::getRawReads).sum() > MAX_RAW_READS) {
+			return Optional.empty();
+		}
+
+		var aggregated = segments.stream() //
+				.filter(Bucket::usesRollups) //
+				.collect(toList());
+
+		NavigableMap<LocalDateTime, List<RollupTotals>> totals = new TreeMap<>();
+
+		if (!aggregated.isEmpty()) {
+
+			var granularity = aggregated.stream().allMatch(it -> it.isAlignedTo(Granularity.DAY)) //
+					? Granularity.DAY //
+					: Granularity.HOUR;
+			var from = aggregated.get(0).from;
+			var to = aggregated.get(aggregated.size() - 1).to;
+
+			rollups.findByGranularityAndStartBetween(granularity, from, to) //
+					.forEach(it -> totals.computeIfAbsent(it.getStart(), __ -> new ArrayList<>()).add(it));
+		}
+
+		return Optional.of(segments.stream() //
+				.map(it -> it.getSalesVolume(totals)) //
+				.collect(toList()));
+	}
+
+	/**
+	 * Rebuilds the {@link AccountancyRollup}s on application startup in case they don't cover all
+	 * {@link AccountancyEntry}s, e.g. for entries added before rollups were introduced, and enables their usage for sales
+	 * volume calculations.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void rebuildIfIncomplete() {
+
+		transactions.executeWithoutResult(__ -> {
+
+			if (!coversAllEntries()) {
+				rebuild();
+			}
+		});
+
+		this.complete = true;
+	}
+
+	/**
+	 * Rebuilds all {@link AccountancyRollup}s from the {@link AccountancyEntry}s. Has to be called within a transaction.
+	 */
+	void rebuild() {
+
+		rollups.deleteAllRollups();
+
+		var result = new HashMap<String, AccountancyRollup>();
+
+		try (var stream = streams.streamAll(AccountancyEntry.class)) {
+
+			stream.filter(AccountancyEntry::hasDate).forEach(entry -> {
+
+				var date = entry.getDate().orElseThrow();
+				var value = entry.getValue();
+				var number = value.getNumber().numberValue(BigDecimal.class);
+				var currency = value.getCurrency().getCurrencyCode();
+
+				for (var granularity : Granularity.values()) {
+
+					var start = granularity.floor(date);
+
+					result.computeIfAbsent(AccountancyRollup.getId(granularity, start, currency),
+							__ -> new AccountancyRollup(granularity, start, currency)).add(number, date);
+				}
+			});
+		}
+
+		rollups.saveAll(result.values());
+	}
+
+	/**
+	 * Returns whether the {@link AccountancyRollup}s cover all {@link AccountancyEntry}s. Requires a count of all
+	 * {@link AccountancyEntry}s and is thus only used on application startup.
+	 *
+	 * @return
+	 */
+	private boolean coversAllEntries() {
+
+		var count = entries.countByDateIsNotNull();
+
+		return rollups.countEntries(Granularity.HOUR) == count && rollups.countEntries(Granularity.DAY) == count;
+	}
+
+	private void createIfAbsent(Granularity granularity, LocalDateTime start, String currency) {
+
+		var rollup = new AccountancyRollup(granularity, start, currency);
+
+		try {
+
+			creation.executeWithoutResult(__ -> {
+
+				if (!rollups.existsById(AccountancyRollup.getId(granularity, start, currency))) {
+					rollups.save(rollup);
+				}
+			});
+
+		} catch (DataIntegrityViolationException o_O) {
+			// Created concurrently
+		}
+	}
+
+	private static MonetaryAmount toMonetaryAmount(BigDecimal number, String currency) {
+		return Money.of(number.stripTrailingZeros(), currency);
+	}
+
+	/**
+	 * A bucket to calculate the sales volume for, split up into the range covered by hourly {@link AccountancyRollup}s
+	 * and the partial edges to be read from the raw {@link AccountancyEntry}s. As {@link Interval}s are closed, the
+	 * entries dated exactly at the end of a bucket are taken from {@link RollupTotals#getValueAtStart()} of the
+	 * {@link AccountancyRollup} starting there.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	private class Bucket {
+
+		private final Interval interval;
+		private final LocalDateTime from, to;
+
+		/**
+		 * Creates a new {@link Bucket} for the given {@link Interval}.
+		 *
+		 * @param interval must not be {@literal null}.
+		 */
+		Bucket(Interval interval) {
+
+			this.interval = interval;
+			this.from = Granularity.HOUR.ceil(interval.getStart());
+			this.to = Granularity.HOUR.floor(interval.getEnd());
+		}
+
+		/**
+		 * Returns whether the bucket contains an hour boundary and can thus use {@link AccountancyRollup}s.
+		 *
+		 * @return
+		 */
+		boolean usesRollups() {
+			return !from.isAfter(to);
+		}
+
+		boolean isAlignedTo(Granularity granularity) {
+			return granularity.isAligned(from) && granularity.isAligned(to);
+		}
+
+		/**
+		 * Returns the number of reads of raw {@link AccountancyEntry}s needed.
+		 *
+		 * @return
+		 */
+		int getRawReads() {
+
+			if (!usesRollups()) {
+				return 1;
+			}
+
+			return (interval.getStart().isBefore(from) ? 1 : 0) + (to.isBefore(interval.getEnd()) ? 1 : 0);
+		}
+
+		/**
+		 * Calculates the sales volume of the bucket using the given {@link RollupTotals} by their start date.
+		 *
+		 * @param totals must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		MonetaryAmount getSalesVolume(NavigableMap<LocalDateTime, List<RollupTotals>> totals) {
+
+			var sum = new MoneySum();
+
+			if (!usesRollups()) {
+
+				entries.findByDateIn(interval).forEach(it -> sum.add(it.getValue()));
+
+				return sum.toMonetaryAmount().orElse(Currencies.ZERO_EURO);
+			}
+
+			if (interval.getStart().isBefore(from)) {
+				entries.findByDateGreaterThanEqualAndDateLessThan(interval.getStart(), from)
+						.forEach(it -> sum.add(it.getValue()));
+			}
+
+			totals.subMap(from, true, to, false).values().stream() //
+					.flatMap(List::stream) //
+					.filter(it -> it.getEntries() > 0) //
+					.forEach(it -> sum.add(toMonetaryAmount(it.getRevenue().add(it.getExpense()), it.getCurrency())));
+
+			if (to.isBefore(interval.getEnd())) {
+
+				entries.findByDateIn(Interval.from(to).to(interval.getEnd())).forEach(it -> sum.add(it.getValue()));
+
+			} else {
+
+				totals.getOrDefault(to, List.of()).stream() //
+						.filter(it -> it.getEntriesAtStart() > 0) //
+						.forEach(it -> sum.add(toMonetaryAmount(it.getValueAtStart(), it.getCurrency())));
+			}
+
+			return sum.toMonetaryAmount().orElse(Currencies.ZERO_EURO);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+import javax.money.MonetaryAmount;
+import javax.persistence.AttributeOverride;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.support.EmbeddableMonetaryAmount;
+import org.salespointframework.time.Interval;
+import org.springframework.util.Assert;
+
+/**
+ * A period of the {@link Accountancy} that has been closed via {@link Accountancy#closePeriod(Interval)}. Keeps the
+ * balance of all {@link AccountancyEntry}s dated up to and including the end of the period as checkpoint for
+ * {@link Accountancy#balanceAt(LocalDateTime)}. No {@link AccountancyEntry}s can be added to a closed period.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Entity
+@Table(indexes = @Index(name = "IDX_CLOSED_PERIOD_END", columnList = "PERIOD_END"))
+@ToString
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+public class ClosedPeriod extends AbstractEntity<ClosedPeriodIdentifier> {
+
+	@EmbeddedId @AttributeOverride(name = "id", column = @Column(name = "PERIOD_ID")) //
+	private ClosedPeriodIdentifier id = new ClosedPeriodIdentifier();
+
+	private @Getter @Column(name = "PERIOD_START", updatable = false) LocalDateTime start;
+	private @Getter @Column(name = "PERIOD_END", updatable = false) LocalDateTime end;
+
+	@Embedded //
+	@AttributeOverride(name = "amount", column = @Column(name = "BALANCE_AMOUNT", precision = 38, scale = 18, updatable = false)) //
+	@AttributeOverride(name = "currency", column = @Column(name = "BALANCE_CURRENCY", length = 3, updatable = false)) //
+	@AttributeOverride(name = "legacy", column = @Column(name = "BALANCE", insertable = false, updatable = false)) //
+	private EmbeddableMonetaryAmount balance;
+
+	/**
+	 * Creates a new {@link ClosedPeriod} for the given {@link Interval} and balance at its end.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @param balance must not be {@literal null}.
+	 */
+	ClosedPeriod(Interval interval, MonetaryAmount balance) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.notNull(balance, "Balance must not be null!");
+
+		this.start = interval.getStart();
+		this.end = interval.getEnd();
+		this.balance = EmbeddableMonetaryAmount.of(balance);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Persistable#getId()
+	 */
+	@Override
+	public ClosedPeriodIdentifier getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the {@link Interval} of the period.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Interval getInterval() {
+		return Interval.from(start).to(end);
+	}
+
+	/**
+	 * Returns the balance of all {@link AccountancyEntry}s dated up to and including the end of the period.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public MonetaryAmount getBalance() {
+		return balance.toMonetaryAmount();
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import javax.persistence.Embeddable;
+
+import org.salespointframework.core.SalespointIdentifier;
+
+/**
+ * Identifier for {@link ClosedPeriod}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Embeddable
+public final class ClosedPeriodIdentifier extends SalespointIdentifier {
+
+	private static final long serialVersionUID = -5326594016411562315L;
+
+	/**
+	 * Creates a new unique identifier for {@link ClosedPeriod}s.
+	 */
+	ClosedPeriodIdentifier() {
+		super();
+	}
+
+	/**
+	 * Only needed for property editor, shouldn't be used otherwise.
+	 *
+	 * @param identifier The string representation of the identifier.
+	 */
+	ClosedPeriodIdentifier(String identifier) {
+		super(identifier);
+	}
+}
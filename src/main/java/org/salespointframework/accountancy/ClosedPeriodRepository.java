@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.time.Interval;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.util.Assert;
+
+/**
+ * Repository for {@link ClosedPeriod}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+interface ClosedPeriodRepository extends SalespointRepository<ClosedPeriod, ClosedPeriodIdentifier> {
+
+	/**
+	 * Returns the {@link ClosedPeriod} ending last at or before the given date.
+	 *
+	 * @param date must not be {@literal null}.
+	 * @return
+	 */
+	Optional<ClosedPeriod> findFirstByEndLessThanEqualOrderByEndDesc(LocalDateTime date);
+
+	/**
+	 * Returns whether the given date is closed, i.e. at or before the end of the {@link ClosedPeriod} ending last. This
+	 * includes dates in gaps between or before {@link ClosedPeriod}s, as the balances of the {@link ClosedPeriod}s
+	 * following them would be invalidated otherwise.
+	 *
+	 * @param date must not be {@literal null}.
+	 * @return
+	 */
+	default boolean isClosed(LocalDateTime date) {
+
+		Assert.notNull(date, "Date must not be null!");
+
+		return existsByEndGreaterThanEqual(date);
+	}
+
+	/**
+	 * Returns whether the given {@link Interval} starts at or after the end of the {@link ClosedPeriod} ending last, i.e.
+	 * whether it can be closed subsequently.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return
+	 */
+	default boolean isSubsequent(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return !existsByEndGreaterThan(interval.getStart());
+	}
+
+	/**
+	 * Locks the {@link ClosedPeriod} ending last, if present, so that no other period can be closed until the current
+	 * transaction completes. {@link AccountancyEntry}s can still be added concurrently.
+	 */
+	default void lockForAdding() {
+		findFirstByOrderByEndDesc();
+	}
+
+	/**
+	 * Locks the {@link ClosedPeriod} ending last, if present, so that neither {@link AccountancyEntry}s can be added nor
+	 * other periods can be closed until the current transaction completes.
+	 */
+	default void lockForClosing() {
+		readFirstByOrderByEndDesc();
+	}
+
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	Optional<ClosedPeriod> findFirstByOrderByEndDesc();
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<ClosedPeriod> readFirstByOrderByEndDesc();
+
+	boolean existsByEndGreaterThan(LocalDateTime date);
+
+	boolean existsByEndGreaterThanEqual(LocalDateTime date);
+}
@@ -15,26 +15,36 @@
  */
 package org.salespointframework.accountancy;
 
-import static java.util.function.Function.*;
 import static java.util.stream.Collectors.*;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.money.MonetaryAmount;
 
-import org.javamoney.moneta.Money;
+import org.salespointframework.core.ContinuationToken;
 import org.salespointframework.core.Currencies;
+import org.salespointframework.core.EntityStreams;
+import org.salespointframework.core.KeysetSlice;
+import org.salespointframework.core.MoneySum;
+import org.salespointframework.order.OrderIdentifier;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
 import org.salespointframework.time.Intervals;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -52,6 +62,10 @@ class PersistentAccountancy implements Accountancy {
 
 	private final @NonNull BusinessTime businessTime;
 	private final @NonNull AccountancyEntryRepository repository;
+	private final @NonNull EntityStreams streams;
+	private final @NonNull AccountancyRollups rollups;
+	private final @NonNull ClosedPeriodRepository periods;
+	private final @NonNull ReportExecutor reports;
 
 	/*
 	 * (non-Javadoc)
@@ -66,7 +80,64 @@ class PersistentAccountancy implements Accountancy {
 			accountancyEntry.setDate(businessTime.getTime());
 		}
 
-		return repository.save(accountancyEntry);
+		var isNew = accountancyEntry.isNew();
+		var date = accountancyEntry.getDate().orElseThrow();
+
+		if (isNew) {
+			periods.lockForAdding();
+			verifyNotClosed(date);
+		}
+
+		var result = repository.save(accountancyEntry);
+
+		if (isNew) {
+
+			// Covers the very first period being closed concurrently, as there's no period to lock yet
+			verifyNotClosed(date);
+
+			rollups.add(result);
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#closePeriod(org.salespointframework.time.Interval)
+	 */
+	@Override
+	public final ClosedPeriod closePeriod(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(!interval.getEnd().isAfter(businessTime.getTime()), "Cannot close a period ending in the future!");
+
+		periods.lockForClosing();
+
+		Assert.isTrue(periods.isSubsequent(interval), "Period must start at or after the end of the last closed one!");
+
+		return periods.save(new ClosedPeriod(interval, balanceAt(interval.getEnd())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#balanceAt(java.time.LocalDateTime)
+	 */
+	@Override
+	public final MonetaryAmount balanceAt(LocalDateTime date) {
+
+		Assert.notNull(date, "Date must not be null!");
+
+		var checkpoint = periods.findFirstByEndLessThanEqualOrderByEndDesc(date);
+		var totals = checkpoint //
+				.map(it -> repository.sumByDateGreaterThanAndDateLessThanEqual(it.getEnd(), date)) //
+				.orElseGet(() -> repository.sumByDateLessThanEqual(date));
+
+		var sum = new MoneySum();
+
+		checkpoint.map(ClosedPeriod::getBalance).ifPresent(sum::add);
+		totals.forEach(it -> sum.add(it.toMonetaryAmount()));
+
+		return sum.toMonetaryAmount().orElse(Currencies.ZERO_EURO);
 	}
 
 	/*
@@ -101,18 +172,58 @@ class PersistentAccountancy implements Accountancy {
 		return repository.findByDateIn(interval);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#findEntriesFor(org.salespointframework.order.OrderIdentifier)
+	 */
+	@Override
+	public final Streamable<ProductPaymentEntry> findEntriesFor(OrderIdentifier orderIdentifier) {
+
+		Assert.notNull(orderIdentifier, "Order identifier must not be null!");
+
+		return repository.findByOrderIdentifier(orderIdentifier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#streamAll()
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public final Stream<AccountancyEntry> streamAll() {
+		return streams.streamAll(AccountancyEntry.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#stream(org.salespointframework.time.Interval)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public final Stream<AccountancyEntry> stream(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return streams.streamBetween(AccountancyEntry.class, "date", interval.getStart(), interval.getEnd());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.accountancy.Accountancy#find(org.salespointframework.time.Interval, java.time.temporal.TemporalAmount)
 	 */
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public final Map<Interval, Streamable<AccountancyEntry>> find(Interval interval, TemporalAmount duration) {
 
 		Assert.notNull(interval, "Interval must not be null");
 		Assert.notNull(duration, "TemporalAmount must not be null");
 
-		return Intervals.divide(interval, duration).stream() //
-				.collect(toMap(identity(), this::find));
+		var buckets = Intervals.divide(interval, duration).toList();
+		var entries = reports.execute(buckets, range -> range.stream() //
+				.map(it -> Streamable.of(find(it).toList())) //
+				.collect(toList()));
+
+		return toOrderedMap(buckets, entries);
 	}
 
 	/*
@@ -120,14 +231,106 @@ class PersistentAccountancy implements Accountancy {
 	 * @see org.salespointframework.accountancy.Accountancy#salesVolume(org.salespointframework.time.Interval, java.time.temporal.TemporalAmount)
 	 */
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public final Map<Interval, MonetaryAmount> salesVolume(Interval interval, TemporalAmount duration) {
 
 		Assert.notNull(interval, "Interval must not be null");
 		Assert.notNull(duration, "TemporalAmount must not be null");
 
-		return find(interval, duration).entrySet().stream().//
-				collect(toMap(Entry::getKey, entry -> entry.getValue().stream().//
-						map(AccountancyEntry::getValue).//
-						reduce(Money.of(0, Currencies.EURO), MonetaryAmount::add)));
+		var buckets = Intervals.divide(interval, duration).toList();
+		var volumes = rollups.salesVolume(buckets) //
+				.orElseGet(() -> reports.execute(buckets, this::calculateSalesVolume));
+
+		return toOrderedMap(buckets, volumes);
+	}
+
+	/**
+	 * Calculates the sales volume for all given, consecutive buckets from the {@link AccountancyEntry}s within the
+	 * {@link Interval} covered by them.
+	 *
+	 * @param buckets must not be {@literal null} or empty.
+	 * @return the sales volumes in the order of the given buckets.
+	 */
+	private List<MonetaryAmount> calculateSalesVolume(List<Interval> buckets) {
+
+		var interval = Interval.from(buckets.get(0).getStart()).to(buckets.get(buckets.size() - 1).getEnd());
+		var starts = buckets.stream().map(Interval::getStart).collect(toList());
+		var totals = new MoneySum[buckets.size()];
+
+		Arrays.setAll(totals, __ -> new MoneySum());
+
+		// Single query for the entire interval, entries are assigned to the buckets afterwards
+		repository.findByDateIn(interval).forEach(entry -> {
+
+			var date = entry.getDate().orElseThrow();
+			var index = Collections.binarySearch(starts, date);
+
+			// Last bucket starting at or before the entry's date
+			index = index < 0 ? -index - 2 : index;
+
+			// Bucket boundaries are inclusive, so an entry dated on a boundary is contained in both adjacent buckets
+			for (int i = index; i >= 0 && buckets.get(i).contains(date); i--) {
+				totals[i].add(entry.getValue());
+			}
+		});
+
+		return Arrays.stream(totals) //
+				.map(it -> it.toMonetaryAmount().orElse(Currencies.ZERO_EURO)) //
+				.collect(toList());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#findSlice(int)
+	 */
+	@Override
+	public final KeysetSlice<AccountancyEntry> findSlice(int size) {
+
+		Assert.isTrue(size > 0, "Size must be greater than zero!");
+
+		return new KeysetSlice<>(repository.findSlice(PageRequest.of(0, size)), PersistentAccountancy::toToken);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#findSlice(org.salespointframework.core.ContinuationToken, int)
+	 */
+	@Override
+	public final KeysetSlice<AccountancyEntry> findSlice(ContinuationToken token, int size) {
+
+		Assert.notNull(token, "ContinuationToken must not be null!");
+		Assert.isTrue(size > 0, "Size must be greater than zero!");
+
+		var slice = repository.findSliceAfter(token.getDate(), token.getIdentifier(), PageRequest.of(0, size));
+
+		return new KeysetSlice<>(slice, PersistentAccountancy::toToken);
+	}
+
+	/**
+	 * Rejects {@link AccountancyEntry}s dated at or before the end of the {@link ClosedPeriod} ending last.
+	 *
+	 * @param date must not be {@literal null}.
+	 */
+	private void verifyNotClosed(LocalDateTime date) {
+
+		if (periods.isClosed(date)) {
+			throw new IllegalArgumentException(
+					String.format("Cannot add entry dated %s at or before the end of a closed period!", date));
+		}
+	}
+
+	private static <T> Map<Interval, T> toOrderedMap(List<Interval> buckets, List<T> values) {
+
+		var result = new LinkedHashMap<Interval, T>(buckets.size());
+
+		for (int i = 0; i < buckets.size(); i++) {
+			result.put(buckets.get(i), values.get(i));
+		}
+
+		return result;
+	}
+
+	private static ContinuationToken toToken(AccountancyEntry entry) {
+		return ContinuationToken.of(entry.getDate().orElseThrow(), entry.getId());
 	}
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static java.util.stream.Collectors.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.salespointframework.time.Interval;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Evaluates the buckets of accountancy reports. If enabled via {@code salespoint.accountancy.enable-parallel-reports},
+ * the buckets are split into ranges evaluated on a bounded {@link ForkJoinPool}, each in a read-only transaction of its
+ * own. The number of ranges evaluated concurrently, across all reports, is limited to the configured parallelism.
+ * Otherwise, or if the caller runs inside a transaction already, all buckets are evaluated in the calling thread and
+ * transaction, as the transactions of the ranges could not see the caller's uncommitted changes.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+class ReportExecutor implements DisposableBean {
+
+	private static final int RANGES_PER_THREAD = 4;
+
+	private final int parallelism;
+	private final @Nullable ForkJoinPool pool;
+	private final Semaphore permits;
+	private final TransactionTemplate inline, transactions;
+
+	/**
+	 * Creates a new {@link ReportExecutor} for the given {@link AccountancyProperties} and
+	 * {@link PlatformTransactionManager}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 */
+	ReportExecutor(AccountancyProperties properties, PlatformTransactionManager transactionManager) {
+
+		Assert.notNull(properties, "AccountancyProperties must not be null!");
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null!");
+
+		this.parallelism = properties.getReportParallelism();
+		this.pool = properties.isEnableParallelReports() ? new ForkJoinPool(parallelism) : null;
+		this.permits = new Semaphore(parallelism);
+
+		this.inline = new TransactionTemplate(transactionManager);
+		this.inline.setReadOnly(true);
+
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.transactions.setReadOnly(true);
+		this.transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * Applies the given function to the given buckets and returns the concatenated results in bucket order.
+	 *
+	 * @param buckets must not be {@literal null}.
+	 * @param function must not be {@literal null}, has to return one result per bucket given.
+	 * @return will never be {@literal null}.
+	 */
+	<T> List<T> execute(List<Interval> buckets, Function<List<Interval>, List<T>> function) {
+
+		Assert.notNull(buckets, "Buckets must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		if (pool == null || buckets.size() < 2 || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return inline.execute(__ -> function.apply(buckets));
+		}
+
+		var ranges = split(buckets);
+
+		try {
+
+			return pool.submit(() -> ranges.parallelStream() //
+					.map(range -> inTransaction(() -> function.apply(range))) //
+					.flatMap(List::stream) //
+					.collect(toList())) //
+					.get();
+
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while evaluating report!", o_O);
+
+		} catch (ExecutionException o_O) {
+
+			var cause = o_O.getCause();
+
+			throw cause instanceof RuntimeException //
+					? (RuntimeException) cause //
+					: new IllegalStateException("Failed to evaluate report!", cause);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (pool != null) {
+			pool.shutdownNow();
+		}
+	}
+
+	private <T> List<T> inTransaction(Supplier<List<T>> supplier) {
+
+		permits.acquireUninterruptibly();
+
+		try {
+			return transactions.execute(__ -> supplier.get());
+		} finally {
+			permits.release();
+		}
+	}
+
+	private List<List<Interval>> split(List<Interval> buckets) {
+
+		var size = Math.max(1, (buckets.size() + parallelism * RANGES_PER_THREAD - 1) / (parallelism * RANGES_PER_THREAD));
+		var result = new ArrayList<List<Interval>>();
+
+		for (int i = 0; i < buckets.size(); i += size) {
+			result.add(buckets.subList(i, Math.min(i + size, buckets.size())));
+		}
+
+		return result;
+	}
+}
@@ -29,6 +29,7 @@ import javax.money.MonetaryAmount;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
+import javax.persistence.Embedded;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -37,6 +38,7 @@ import org.salespointframework.core.AbstractEntity;
 import org.salespointframework.quantity.Metric;
 import org.salespointframework.quantity.MetricMismatchException;
 import org.salespointframework.quantity.Quantity;
+import org.salespointframework.support.EmbeddableMonetaryAmount;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
@@ -56,7 +58,12 @@ public class Product extends AbstractEntity<ProductIdentifier> implements Compar
 	@AttributeOverride(name = "id", column = @Column(name = "PRODUCT_ID")) //
 	private ProductIdentifier productIdentifier = new ProductIdentifier();
 	private @NonNull @Getter @Setter String name;
-	private @NonNull @Getter @Setter MonetaryAmount price;
+	@Embedded //
+	@AttributeOverride(name = "amount", column = @Column(name = "PRICE_AMOUNT", precision = 38, scale = 18)) //
+	@AttributeOverride(name = "currency", column = @Column(name = "PRICE_CURRENCY", length = 3)) //
+	@AttributeOverride(name = "legacy", column = @Column(name = "PRICE", insertable = false, updatable = false)) //
+	private @NonNull EmbeddableMonetaryAmount price;
+
 	private @ElementCollection(fetch = FetchType.EAGER) Set<String> categories = new HashSet<String>();
 	private Metric metric;
 
@@ -84,7 +91,7 @@ public class Product extends AbstractEntity<ProductIdentifier> implements Compar
 		Assert.notNull(metric, "Metric must not be null!");
 
 		this.name = name;
-		this.price = price;
+		this.price = EmbeddableMonetaryAmount.of(price);
 		this.metric = metric;
 	}
 
@@ -97,6 +104,27 @@ public class Product extends AbstractEntity<ProductIdentifier> implements Compar
 		return productIdentifier;
 	}
 
+	/**
+	 * Returns the price of the {@link Product}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public MonetaryAmount getPrice() {
+		return price.toMonetaryAmount();
+	}
+
+	/**
+	 * Sets the price of the {@link Product}.
+	 *
+	 * @param price must not be {@literal null}.
+	 */
+	public void setPrice(MonetaryAmount price) {
+
+		Assert.notNull(price, "Price must not be null!");
+
+		this.price = EmbeddableMonetaryAmount.of(price);
+	}
+
 	/**
 	 * Returns the categories the {@link Product} is assigned to.
 	 *
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.util.Assert;
+
+/**
+ * An opaque token to continue keyset based iteration over aggregates ordered by a date and their identifier. The token
+ * captures the date and identifier of the last aggregate of a {@link KeysetSlice} so that the next one can be looked up
+ * without an offset. Use {@link #toString()} to obtain the token's {@link String} representation and
+ * {@link #parse(String)} to turn it into a {@link ContinuationToken} again.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see KeysetSlice
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContinuationToken {
+
+	private static final String SEPARATOR = "|";
+	private static final String INVALID_TOKEN = "Invalid continuation token %s!";
+
+	private final LocalDateTime date;
+	private final String identifier;
+
+	/**
+	 * Creates a new {@link ContinuationToken} for the given date and {@link SalespointIdentifier}.
+	 *
+	 * @param date must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ContinuationToken of(LocalDateTime date, SalespointIdentifier identifier) {
+
+		Assert.notNull(date, "Date must not be null!");
+		Assert.notNull(identifier, "Identifier must not be null!");
+
+		return new ContinuationToken(date, identifier.getIdentifier());
+	}
+
+	/**
+	 * Parses the given {@link String} representation of a {@link ContinuationToken} as obtained by {@link #toString()}.
+	 *
+	 * @param token must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given token is invalid.
+	 */
+	public static ContinuationToken parse(String token) {
+
+		Assert.hasText(token, "Token must not be null or empty!");
+
+		try {
+
+			var source = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			var index = source.indexOf(SEPARATOR);
+
+			Assert.isTrue(index > 0 && index < source.length() - 1, () -> String.format(INVALID_TOKEN, token));
+
+			return new ContinuationToken(LocalDateTime.parse(source.substring(0, index)), source.substring(index + 1));
+
+		} catch (DateTimeParseException o_O) {
+			throw new IllegalArgumentException(String.format(INVALID_TOKEN, token), o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		var source = date.toString().concat(SEPARATOR).concat(identifier);
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(source.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import static org.hibernate.jpa.QueryHints.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Support for {@link Stream}s of entities backed by a database cursor. Entities are detached from the persistence
+ * context once they have been consumed, so that the memory needed to process a {@link Stream} stays constant
+ * independent of the number of entities contained in it. The queries streamed fetch the number of rows configured via
+ * {@code salespoint.streaming.fetch-size} per database round trip, the fetch size of all other queries stays untouched.
+ * <p>
+ * Note that entities handed to a consumer must not be expected to still be attached to the persistence context
+ * afterwards, i.e. changes to them will not be written to the database and lazy associations have to be accessed
+ * during the consumption.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityStreams {
+
+	private final @NonNull EntityManager em;
+	private final @NonNull StreamingProperties properties;
+
+	/**
+	 * Returns all entities of the given type as {@link Stream} backed by a database cursor. The entities are detached
+	 * from the persistence context once consumed and the {@link Stream} has to be closed to release the underlying
+	 * database cursor.
+	 *
+	 * @param <T> the type of the entities.
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Stream<T> streamAll(Class<T> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		var query = em.getCriteriaBuilder().createQuery(type);
+		query.select(query.from(type));
+
+		return stream(em.createQuery(query));
+	}
+
+	/**
+	 * Returns all entities of the given type whose given date property is between the given dates, both inclusive, as
+	 * {@link Stream} backed by a database cursor.
+	 *
+	 * @param <T> the type of the entities.
+	 * @param type must not be {@literal null}.
+	 * @param property the name of a {@link LocalDateTime} property of the entity, must not be {@literal null} or empty.
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #streamAll(Class)
+	 */
+	public <T> Stream<T> streamBetween(Class<T> type, String property, LocalDateTime from, LocalDateTime to) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.hasText(property, "Property must not be null or empty!");
+		Assert.notNull(from, "From must not be null!");
+		Assert.notNull(to, "To must not be null!");
+
+		var builder = em.getCriteriaBuilder();
+		var query = builder.createQuery(type);
+		var root = query.from(type);
+
+		query.select(root).where(builder.between(root.<LocalDateTime> get(property), from, to));
+
+		return stream(em.createQuery(query));
+	}
+
+	/**
+	 * Returns the results of the given {@link TypedQuery} as {@link Stream} backed by a database cursor, fetching the
+	 * configured number of rows per database round trip. The entities are detached from the persistence context once
+	 * consumed and the {@link Stream} has to be closed to release the underlying database cursor.
+	 *
+	 * @param <T> the type of the entities.
+	 * @param query must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Stream<T> stream(TypedQuery<T> query) {
+
+		Assert.notNull(query, "Query must not be null!");
+
+		return detaching(query.setHint(HINT_FETCH_SIZE, properties.getFetchSize()).getResultStream());
+	}
+
+	/**
+	 * Wraps the given {@link Stream} of entities obtained from a repository so that the entities are detached from the
+	 * persistence context once consumed. The returned {@link Stream} has to be closed to release the underlying
+	 * database cursor.
+	 *
+	 * @param <T> the type of the entities.
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Stream<T> detaching(Stream<T> source) {
+
+		Assert.notNull(source, "Source stream must not be null!");
+
+		if (properties.isDisableDetaching()) {
+			return source;
+		}
+
+		var spliterator = source.spliterator();
+
+		return StreamSupport.stream(new DetachingSpliterator<>(spliterator), false) //
+				.onClose(source::close);
+	}
+
+	private class DetachingSpliterator<T> extends AbstractSpliterator<T> {
+
+		private final Spliterator<T> delegate;
+
+		DetachingSpliterator(Spliterator<T> delegate) {
+
+			super(delegate.estimateSize(), delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			return delegate.tryAdvance(it -> {
+
+				try {
+					action.accept(it);
+				} finally {
+					em.detach(it);
+				}
+			});
+		}
+	}
+}
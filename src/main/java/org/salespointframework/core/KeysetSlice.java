@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Slice} of aggregates obtained via keyset pagination. Exposes a {@link ContinuationToken} to look up the
+ * next {@link KeysetSlice} in case there is one. No count query is issued to create it.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see ContinuationToken
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 4371652816427402937L;
+
+	private final @Nullable ContinuationToken continuationToken;
+
+	/**
+	 * Creates a new {@link KeysetSlice} for the given {@link Slice} and function to create a {@link ContinuationToken}
+	 * for its last element.
+	 *
+	 * @param slice must not be {@literal null}.
+	 * @param tokenFactory must not be {@literal null}.
+	 */
+	public KeysetSlice(Slice<T> slice, Function<? super T, ContinuationToken> tokenFactory) {
+
+		super(slice.getContent(), slice.getPageable(), slice.hasNext());
+
+		Assert.notNull(tokenFactory, "Token factory must not be null!");
+
+		var content = slice.getContent();
+
+		this.continuationToken = slice.hasNext() && !content.isEmpty() //
+				? tokenFactory.apply(content.get(content.size() - 1)) //
+				: null;
+	}
+
+	/**
+	 * Returns the {@link ContinuationToken} to look up the next {@link KeysetSlice} or {@link Optional#empty()} in case
+	 * this is the last one.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ContinuationToken> getContinuationToken() {
+		return Optional.ofNullable(continuationToken);
+	}
+}
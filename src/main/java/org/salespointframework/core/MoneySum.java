@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A mutable accumulator to sum up {@link MonetaryAmount}s without creating an intermediate {@link MonetaryAmount} per
+ * element. The amounts are summed up in a {@link BigDecimal} and only the {@link CurrencyUnit} is verified per element.
+ * The result is created using the {@link javax.money.MonetaryAmountFactory} of the first {@link MonetaryAmount} added,
+ * i.e. it's of the same implementation type. Not thread-safe, use {@link #summing()} to sum up parallel
+ * {@link java.util.stream.Stream}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+public final class MoneySum {
+
+	private static final String CURRENCY_MISMATCH = "Currency mismatch: %s/%s";
+
+	private @Nullable MonetaryAmount template;
+	private BigDecimal total = BigDecimal.ZERO;
+
+	/**
+	 * Returns a {@link Collector} to sum up {@link MonetaryAmount}s, returning {@link Optional#empty()} for empty
+	 * sources, just like {@link java.util.stream.Stream#reduce(java.util.function.BinaryOperator)} would.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static Collector<MonetaryAmount, MoneySum, Optional<MonetaryAmount>> summing() {
+		return Collector.of(MoneySum::new, MoneySum::add, MoneySum::combine, MoneySum::toMonetaryAmount);
+	}
+
+	/**
+	 * Adds the given {@link MonetaryAmount} to the sum.
+	 *
+	 * @param amount must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws MonetaryException in case the given {@link MonetaryAmount}'s currency differs from the ones added before.
+	 */
+	public MoneySum add(MonetaryAmount amount) {
+
+		Assert.notNull(amount, "MonetaryAmount must not be null!");
+
+		assertCurrency(amount);
+
+		this.total = total.add(amount.getNumber().numberValue(BigDecimal.class));
+
+		return this;
+	}
+
+	/**
+	 * Adds the given {@link MoneySum} to the current one.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws MonetaryException in case the given sum's currency differs from the current one's.
+	 */
+	public MoneySum combine(MoneySum other) {
+
+		Assert.notNull(other, "MoneySum must not be null!");
+
+		var template = other.template;
+
+		if (template == null) {
+			return this;
+		}
+
+		assertCurrency(template);
+
+		this.total = total.add(other.total);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether no {@link MonetaryAmount} has been added yet.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return template == null;
+	}
+
+	/**
+	 * Returns the {@link MonetaryAmount} summed up so far.
+	 *
+	 * @return {@link Optional#empty()} in case no {@link MonetaryAmount} has been added yet.
+	 */
+	public Optional<MonetaryAmount> toMonetaryAmount() {
+
+		var template = this.template;
+
+		return template == null //
+				? Optional.empty() //
+				: Optional.of(template.getFactory().setNumber(total).create());
+	}
+
+	private void assertCurrency(MonetaryAmount amount) {
+
+		var template = this.template;
+
+		if (template == null) {
+			this.template = amount;
+			return;
+		}
+
+		if (!template.getCurrency().equals(amount.getCurrency())) {
+			throw new MonetaryException(String.format(CURRENCY_MISMATCH, template.getCurrency(), amount.getCurrency()));
+		}
+	}
+}
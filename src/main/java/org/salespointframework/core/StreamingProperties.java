@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import lombok.Value;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure the streaming of aggregates via the {@code stream…} methods of the Salespoint managers and
+ * {@link EntityStreams}. Declare {@code salespoint.streaming.…} in application properties to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see EntityStreams
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.streaming")
+class StreamingProperties {
+
+	/**
+	 * The number of rows to fetch from the database per round trip when streaming, defaults to 100. Applied as hint to
+	 * the streamed queries only, so that the fetch size of all other queries is not affected.
+	 */
+	private @Nullable Integer fetchSize;
+
+	/**
+	 * Disable detaching entities from the persistence context once they have been consumed from a stream, defaults to
+	 * {@literal false}.
+	 */
+	private boolean disableDetaching;
+
+	/**
+	 * Returns the number of rows to fetch from the database per round trip when streaming.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getFetchSize() {
+		return fetchSize == null ? 100 : Math.max(1, fetchSize);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.Set;
+
+import org.salespointframework.catalog.ProductIdentifier;
+import org.salespointframework.order.OrderIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Exception being thrown in case a stock reservation cannot be made as not enough stock is available to promise for
+ * some of the products to be reserved.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see InventoryReservations
+ */
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class InsufficientStockException extends RuntimeException {
+
+	private static final long serialVersionUID = -3329587498637785254L;
+
+	OrderIdentifier order;
+	Set<ProductIdentifier> products;
+
+	/**
+	 * Creates a new {@link InsufficientStockException} for the given {@link OrderIdentifier} and
+	 * {@link ProductIdentifier}s.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param products must not be {@literal null}.
+	 */
+	InsufficientStockException(OrderIdentifier order, Set<ProductIdentifier> products) {
+
+		super(String.format("Not enough stock available to reserve products %s for order %s!", products, order));
+
+		Assert.notNull(order, "Order identifier must not be null!");
+		Assert.notNull(products, "Product identifiers must not be null!");
+
+		this.order = order;
+		this.products = products;
+	}
+}
@@ -22,6 +22,7 @@ import java.util.Iterator;
 
 import org.salespointframework.catalog.Product;
 import org.salespointframework.quantity.Quantity;
+import org.salespointframework.quantity.QuantitySum;
 import org.springframework.data.util.Streamable;
 
 /**
@@ -45,7 +46,7 @@ public class InventoryItems<T extends InventoryItem<?>> implements Streamable<T>
 
 		return stream() //
 				.map(InventoryItem::getQuantity) //
-				.reduce(Quantity::add) //
+				.collect(QuantitySum.summing()) //
 				.orElse(Quantity.NONE);
 	}
 
@@ -20,10 +20,17 @@ import static org.salespointframework.order.OrderCompletionReport.OrderLineCompl
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
 
 import org.salespointframework.catalog.Product;
+import org.salespointframework.catalog.ProductIdentifier;
 import org.salespointframework.order.Order;
 import org.salespointframework.order.Order.OrderCancelled;
 import org.salespointframework.order.Order.OrderCompleted;
@@ -31,10 +38,12 @@ import org.salespointframework.order.OrderCompletionFailure;
 import org.salespointframework.order.OrderCompletionReport;
 import org.salespointframework.order.OrderCompletionReport.OrderLineCompletion;
 import org.salespointframework.order.OrderLine;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.util.Optionals;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
@@ -58,10 +67,17 @@ public class InventoryOrderEventListener {
 
 	private final @NonNull MultiInventory<MultiInventoryItem> inventory;
 	private final @NonNull UniqueInventory<UniqueInventoryItem> uniqueInventory;
+	private final @NonNull EntityManager em;
+	private final @NonNull ObjectProvider<InventoryReservations> reservations;
 
 	/**
 	 * Invokes {@link UniqueInventory} checks for all {@link OrderLine} of the {@link Order} in the given
-	 * {@link OrderCompleted} event.
+	 * {@link OrderCompleted} event. Stock is decreased using {@link UniqueInventory#tryDecrease(ProductIdentifier,
+	 * Quantity)}, i.e. without reading the {@link InventoryItem}s first. Only for the {@link OrderLine}s that could not be
+	 * served that way, the {@link InventoryItem}s are looked up in one query per inventory type to produce the
+	 * {@link OrderCompletionReport}. The {@link UniqueInventoryItem}s whose stock was decreased are refreshed
+	 * to reflect the update. If {@link InventoryReservations} are enabled, stock held by other orders is not consumed,
+	 * i.e. the {@link OrderLine}s only succeed if enough stock is left beyond those holds.
 	 *
 	 * @param event must not be {@literal null}.
 	 * @throws OrderCompletionFailure in case any of the {@link OrderLine} items contained in the order and supported by
@@ -73,8 +89,18 @@ public class InventoryOrderEventListener {
 		Assert.notNull(event, "OrderCompletedEvent must not be null!");
 
 		var order = event.getOrder();
+		var holds = reservations.getIfAvailable();
+		var decreases = order.getOrderLines().stream() //
+				.filter(it -> LineItemFilter.shouldBeHandled(it, filters)) //
+				.collect(Collectors.partitioningBy(it -> decrease(it, order, holds), Collectors.toSet()));
+
+		refreshItems(decreases.get(true));
+
+		var failed = decreases.get(false);
+
+		var lookup = new InventoryLookup(failed);
 		var collect = order.getOrderLines() //
-				.map(this::verify)//
+				.map(it -> failed.contains(it) ? verify(it, lookup) : success(it))//
 				.toList();
 
 		OrderCompletionReport.forCompletions(order, collect) //
@@ -82,7 +108,9 @@ public class InventoryOrderEventListener {
 	}
 
 	/**
-	 * Rolls back the stock decreases handled for {@link OrderCompleted} events.
+	 * Rolls back the stock decreases handled for {@link OrderCompleted} events. Stock is increased using
+	 * {@link UniqueInventory#tryIncrease(ProductIdentifier, Quantity)}, i.e. without reading the {@link InventoryItem}s
+	 * first, so that concurrent decreases are not overwritten.
 	 *
 	 * @param event must not be {@literal null}.
 	 */
@@ -95,75 +123,147 @@ public class InventoryOrderEventListener {
 			return;
 		}
 
-		order.getOrderLines() //
-				.flatMap(this::updateStockFor) //
-				.forEach(uniqueInventory::save);
+		var restocked = order.getOrderLines() //
+				.filter(this::restock) //
+				.toList();
+
+		refreshItems(restocked);
 	}
 
 	/**
-	 * Verifies the given {@link OrderLine} for sufficient stock in the {@link UniqueInventory}.
+	 * Decreases the stock for the given {@link OrderLine} of the given {@link Order}, retaining the {@link Quantity}
+	 * other orders hold reservations for.
 	 *
 	 * @param orderLine must not be {@literal null}.
-	 * @return
+	 * @param order must not be {@literal null}.
+	 * @param reservations can be {@literal null}.
+	 * @return whether the stock was decreased.
 	 */
-	private OrderLineCompletion verify(OrderLine orderLine) {
-
-		Assert.notNull(orderLine, "OrderLine must not be null!");
-
-		if (!LineItemFilter.shouldBeHandled(orderLine, filters)) {
-			return OrderLineCompletion.success(orderLine);
-		}
+	private boolean decrease(OrderLine orderLine, Order order, @Nullable InventoryReservations reservations) {
 
 		var identifier = orderLine.getProductIdentifier();
-		var item = uniqueInventory.findByProductIdentifier(identifier);
+		var retained = reservations == null //
+				? Quantity.NONE //
+				: reservations.getReservedQuantityExcluding(identifier, order.getId());
 
-		return item.map(it -> verifyAndUpdateUnique(it, orderLine)) //
-				.orElseGet(() -> assertAtLeastOneExists(orderLine));
+		return uniqueInventory.tryDecrease(identifier, orderLine.getQuantity(), retained);
 	}
 
 	/**
-	 * Verifies that the given UI
+	 * Creates the {@link OrderLineCompletion} for an {@link OrderLine} whose stock could not be decreased using the
+	 * {@link InventoryItem}s contained in the given {@link InventoryLookup}.
 	 *
-	 * @param item
-	 * @param orderLine
+	 * @param orderLine must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
 	 * @return
 	 */
-	private OrderLineCompletion verifyAndUpdateUnique(UniqueInventoryItem item, OrderLine orderLine) {
-		return hasSufficientQuantity(item, orderLine)
-				.onSuccess(it -> uniqueInventory.save(item.decreaseQuantity(it.getQuantity())));
+	private static OrderLineCompletion verify(OrderLine orderLine, InventoryLookup lookup) {
+
+		Assert.notNull(orderLine, "OrderLine must not be null!");
+
+		var identifier = orderLine.getProductIdentifier();
+		var item = lookup.getUniqueItem(identifier);
+
+		if (item != null) {
+
+			item.getProduct().verify(orderLine.getQuantity());
+
+			return error(orderLine, NOT_ENOUGH_STOCK);
+		}
+
+		return lookup.hasMultiItems(identifier) ? skipped(orderLine) : error(orderLine, NO_INVENTORY_ITEM);
 	}
 
 	/**
-	 * Creates a new {@link OrderLineCompletion} verifying that at least one {@link MultiInventoryItem} exists.
+	 * Increases the stock for the given {@link OrderLine}.
 	 *
 	 * @param orderLine must not be {@literal null}.
-	 * @return
+	 * @return whether a {@link UniqueInventoryItem} was restocked, i.e. {@literal false} if the {@link OrderLine} refers
+	 *         to a {@link MultiInventoryItem}.
 	 */
-	private OrderLineCompletion assertAtLeastOneExists(OrderLine orderLine) {
-
-		var items = inventory.findByProductIdentifier(orderLine.getProductIdentifier());
-
-		return items.isEmpty() ? error(orderLine, NO_INVENTORY_ITEM) : skipped(orderLine);
-	}
-
-	private Stream<UniqueInventoryItem> updateStockFor(OrderLine orderLine) {
+	private boolean restock(OrderLine orderLine) {
 
 		var productIdentifier = orderLine.getProductIdentifier();
-		var item = uniqueInventory.findByProductIdentifier(productIdentifier)
-				.map(it -> it.increaseQuantity(orderLine.getQuantity()));
 
-		if (!item.isPresent() && inventory.findByProductIdentifier(productIdentifier).isEmpty()) {
+		if (uniqueInventory.tryIncrease(productIdentifier, orderLine.getQuantity())) {
+			return true;
+		}
+
+		if (inventory.findByProductIdentifier(productIdentifier).isEmpty()) {
 			throw new IllegalArgumentException(
 					String.format("Couldn't find InventoryItem for product %s!", productIdentifier));
 		}
 
-		return Optionals.toStream(item);
+		return false;
 	}
 
-	private static OrderLineCompletion hasSufficientQuantity(InventoryItem<?> item, OrderLine orderLine) {
+	/**
+	 * Refreshes the {@link UniqueInventoryItem}s for the given {@link OrderLine}s, as their stock was updated in the
+	 * database directly. Instances already loaded into the current persistence context would otherwise keep their stale
+	 * stock and overwrite the update when saved later on. Pending changes to them are not lost, as the update flushed
+	 * them before being issued.
+	 *
+	 * @param orderLines must not be {@literal null}.
+	 */
+	private void refreshItems(Collection<OrderLine> orderLines) {
 
-		return item.hasSufficientQuantity(orderLine.getQuantity()) //
-				? success(orderLine) //
-				: error(orderLine, NOT_ENOUGH_STOCK);
+		if (orderLines.isEmpty()) {
+			return;
+		}
+
+		var identifiers = orderLines.stream() //
+				.map(OrderLine::getProductIdentifier) //
+				.collect(Collectors.toSet());
+
+		uniqueInventory.findByProductIdentifierIn(identifiers) //
+				.forEach(em::refresh);
+	}
+
+	/**
+	 * The {@link InventoryItem}s relevant for a set of {@link OrderLine}s, looked up in one query per {@link Inventory}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	private class InventoryLookup {
+
+		private final Map<ProductIdentifier, UniqueInventoryItem> uniqueItems;
+		private final Set<ProductIdentifier> multiItemProducts;
+
+		/**
+		 * Creates a new {@link InventoryLookup} for the given {@link OrderLine}s.
+		 *
+		 * @param orderLines must not be {@literal null}.
+		 */
+		InventoryLookup(Collection<OrderLine> orderLines) {
+
+			var identifiers = orderLines.stream() //
+					.map(OrderLine::getProductIdentifier) //
+					.collect(Collectors.toSet());
+
+			this.uniqueItems = identifiers.isEmpty() //
+					? Map.of() //
+					: uniqueInventory.findByProductIdentifierIn(identifiers).stream() //
+							.collect(Collectors.toMap(it -> it.getProduct().getId(), Function.identity()));
+
+			var remaining = identifiers.stream() //
+					.filter(it -> !uniqueItems.containsKey(it)) //
+					.collect(Collectors.toSet());
+
+			this.multiItemProducts = remaining.isEmpty() //
+					? Set.of() //
+					: inventory.findByProductIdentifierIn(remaining).stream() //
+							.map(it -> it.getProduct().getId()) //
+							.collect(Collectors.toSet());
+		}
+
+		@Nullable
+		UniqueInventoryItem getUniqueItem(ProductIdentifier identifier) {
+			return uniqueItems.get(identifier);
+		}
+
+		boolean hasMultiItems(ProductIdentifier identifier) {
+			return multiItemProducts.contains(identifier);
+		}
 	}
 }
@@ -2,8 +2,11 @@ package org.salespointframework.inventory;
 
 import lombok.Value;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
 
 /**
  * Properties to configure Salespoint's inventory. Declare {@code salespoint.inventory.…} in application properties to
@@ -22,4 +25,29 @@ class InventoryProperties {
 	 * Disable inventory updates completely, defaults to {@literal false}.
 	 */
 	private boolean disableUpdates;
+
+	/**
+	 * Enable time-limited stock reservations for {@link org.salespointframework.order.Order}s created from a
+	 * {@link org.salespointframework.order.Cart}, defaults to {@literal false}.
+	 *
+	 * @since 8.0
+	 */
+	private boolean enableReservations;
+
+	/**
+	 * The time after which a stock reservation expires, defaults to 15 minutes.
+	 *
+	 * @since 8.0
+	 */
+	private @Nullable Duration reservationTimeout;
+
+	/**
+	 * Returns the time after which a stock reservation expires.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	public Duration getReservationTimeout() {
+		return reservationTimeout == null ? Duration.ofMinutes(15) : reservationTimeout;
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.salespointframework.order.Order;
+import org.salespointframework.order.Order.OrderCancelled;
+import org.salespointframework.order.Order.OrderCompleted;
+import org.salespointframework.order.Order.OrderCreatedFromCart;
+import org.salespointframework.order.OrderLine;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+/**
+ * Event listener to maintain {@link InventoryReservations} for {@link Order}s created from a
+ * {@link org.salespointframework.order.Cart}. Reservations are made once the {@link Order} is saved and released once
+ * the {@link Order} gets completed or cancelled. Enable via {@code salespoint.inventory.enable-reservations}.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "salespoint.inventory.enable-reservations", havingValue = "true")
+class InventoryReservationEventListener {
+
+	private final @NonNull InventoryReservations reservations;
+	private final @NonNull UniqueInventory<UniqueInventoryItem> inventory;
+	private final @NonNull List<LineItemFilter> filters;
+
+	/**
+	 * Reserves the stock for all {@link OrderLine}s of the {@link Order} handled by the configured
+	 * {@link LineItemFilter}s.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @throws InsufficientStockException in case not enough stock is available to promise for any of the products.
+	 */
+	@EventListener
+	public void on(OrderCreatedFromCart event) throws InsufficientStockException {
+
+		Assert.notNull(event, "OrderCreatedFromCart must not be null!");
+
+		var order = event.getOrder();
+		var quantities = order.getOrderLines().stream() //
+				.filter(it -> LineItemFilter.shouldBeHandled(it, filters)) //
+				.collect(Collectors.groupingBy(OrderLine::getProductIdentifier,
+						Collectors.reducing(Quantity.NONE, OrderLine::getQuantity, Quantity::add)));
+
+		if (quantities.isEmpty()) {
+			return;
+		}
+
+		var items = inventory.findByProductIdentifierIn(quantities.keySet()).stream() //
+				.collect(Collectors.toMap(Function.identity(), it -> quantities.get(it.getProduct().getId())));
+
+		reservations.reserve(order.getId(), items);
+	}
+
+	/**
+	 * Releases the reservations for completed {@link Order}s once the completion has been committed.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderCompleted event) {
+		reservations.release(event.getOrder().getId());
+	}
+
+	/**
+	 * Releases the reservations for cancelled {@link Order}s once the cancellation has been committed.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderCancelled event) {
+		reservations.release(event.getOrder().getId());
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.salespointframework.catalog.ProductIdentifier;
+import org.salespointframework.order.OrderIdentifier;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.time.BusinessTime;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory ledger of time-limited stock reservations (holds) for {@link UniqueInventoryItem}s. Holds are tracked per
+ * {@link OrderIdentifier} and {@link ProductIdentifier} and expire after the timeout configured via
+ * {@code salespoint.inventory.reservation-timeout}. Expired holds are ignored right away and purged periodically as
+ * well as whenever the reservations for a product are accessed.
+ * <p>
+ * Access to the holds of a product is guarded by a fixed set of lock stripes so that reservations for different
+ * products don't contend with each other. Changes to the holds of an order are additionally serialized by a stripe per
+ * order, acquired before the product ones. Reservations are soft holds, i.e. they're not persisted and don't change the
+ * stock recorded in the {@link UniqueInventory}. Reservations made in a transaction are released if it rolls back.
+ * Completing an order only consumes stock not held by other orders, see
+ * {@link InventoryOrderEventListener#on(org.salespointframework.order.Order.OrderCompleted)}.
+ * Only registered if {@code salespoint.inventory.enable-reservations} is set to {@literal true}.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+@ConditionalOnProperty(name = "salespoint.inventory.enable-reservations", havingValue = "true")
+public class InventoryReservations implements DisposableBean {
+
+	private static final int STRIPES = 64;
+	private static final Duration MAX_PURGE_INTERVAL = Duration.ofMinutes(1);
+
+	private final BusinessTime businessTime;
+	private final Duration timeout;
+	private final Lock[] locks;
+	private final Lock[] orderLocks;
+	private final Map<ProductIdentifier, Map<OrderIdentifier, Hold>> holds;
+	private final Map<OrderIdentifier, Set<ProductIdentifier>> productsByOrder;
+	private final ScheduledExecutorService purger;
+
+	/**
+	 * Creates a new {@link InventoryReservations} for the given {@link BusinessTime} and {@link InventoryProperties}.
+	 *
+	 * @param businessTime must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	InventoryReservations(BusinessTime businessTime, InventoryProperties properties) {
+
+		Assert.notNull(businessTime, "BusinessTime must not be null!");
+		Assert.notNull(properties, "InventoryProperties must not be null!");
+
+		this.businessTime = businessTime;
+		this.timeout = properties.getReservationTimeout();
+		this.locks = IntStream.range(0, STRIPES).mapToObj(__ -> new ReentrantLock()).toArray(Lock[]::new);
+		this.orderLocks = IntStream.range(0, STRIPES).mapToObj(__ -> new ReentrantLock()).toArray(Lock[]::new);
+		this.holds = new ConcurrentHashMap<>();
+		this.productsByOrder = new ConcurrentHashMap<>();
+
+		var threadFactory = new CustomizableThreadFactory("salespoint-inventory-reservations-");
+		threadFactory.setDaemon(true);
+
+		var interval = Math.max(1, Math.min(timeout.toMillis(), MAX_PURGE_INTERVAL.toMillis()));
+
+		this.purger = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		this.purger.scheduleWithFixedDelay(this::purgeExpired, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Reserves the given {@link Quantity} of each of the given {@link UniqueInventoryItem}s for the order with the
+	 * given identifier. Reservations previously made for the same order are replaced. The reservation is only made if
+	 * all of the items have enough stock available to promise. If called within a transaction, the reservations are
+	 * released in case the transaction rolls back.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param quantities must not be {@literal null}.
+	 * @throws InsufficientStockException in case any of the items doesn't have enough stock available to promise.
+	 * @see #getAvailableToPromise(UniqueInventoryItem)
+	 */
+	public void reserve(OrderIdentifier order, Map<UniqueInventoryItem, Quantity> quantities) {
+
+		Assert.notNull(order, "Order identifier must not be null!");
+		Assert.notNull(quantities, "Quantities must not be null!");
+
+		withOrderLock(order, () -> {
+
+			var products = new HashSet<ProductIdentifier>(productsByOrder.getOrDefault(order, Set.of()));
+			quantities.keySet().forEach(it -> products.add(it.getProduct().getId()));
+
+			return withLocks(products, () -> {
+				reserveLocked(order, quantities);
+				return null;
+			});
+		});
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new ReleaseOnRollback(order));
+		}
+	}
+
+	/**
+	 * Releases all reservations made for the order with the given identifier.
+	 *
+	 * @param order must not be {@literal null}.
+	 */
+	public void release(OrderIdentifier order) {
+
+		Assert.notNull(order, "Order identifier must not be null!");
+
+		withOrderLock(order, () -> {
+
+			var products = productsByOrder.get(order);
+
+			return products == null ? null : withLocks(new HashSet<>(products), () -> {
+				releaseLocked(order);
+				return null;
+			});
+		});
+	}
+
+	/**
+	 * Purges all expired reservations. Invoked periodically, so that expired reservations don't pile up for products
+	 * not accessed anymore.
+	 */
+	public void purgeExpired() {
+
+		var now = businessTime.getTime();
+
+		for (var product : Set.copyOf(holds.keySet())) {
+			withLocks(Set.of(product), () -> getReservedQuantity(product, null, now));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		purger.shutdownNow();
+	}
+
+	/**
+	 * Reserves the given quantities for the given order. Needs to be called with the lock stripes for the order and all
+	 * products currently and to be reserved for it held.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param quantities must not be {@literal null}.
+	 */
+	private void reserveLocked(OrderIdentifier order, Map<UniqueInventoryItem, Quantity> quantities) {
+
+		var now = businessTime.getTime();
+
+		var insufficient = quantities.entrySet().stream() //
+				.filter(it -> !getAvailableToPromise(it.getKey(), order, now).isGreaterThanOrEqualTo(it.getValue())) //
+				.map(it -> it.getKey().getProduct().getId()) //
+				.collect(Collectors.toSet());
+
+		if (!insufficient.isEmpty()) {
+			throw new InsufficientStockException(order, insufficient);
+		}
+
+		releaseLocked(order);
+
+		var expiresAt = now.plus(timeout);
+
+		for (Entry<UniqueInventoryItem, Quantity> entry : quantities.entrySet()) {
+
+			var product = entry.getKey().getProduct().getId();
+
+			holds.computeIfAbsent(product, __ -> new ConcurrentHashMap<>()) //
+					.put(order, new Hold(entry.getValue(), expiresAt));
+			productsByOrder.computeIfAbsent(order, __ -> ConcurrentHashMap.newKeySet()).add(product);
+		}
+	}
+
+	/**
+	 * Returns the {@link Quantity} currently reserved for the {@link org.salespointframework.catalog.Product} with the
+	 * given identifier.
+	 *
+	 * @param product must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Quantity getReservedQuantity(ProductIdentifier product) {
+
+		Assert.notNull(product, "Product identifier must not be null!");
+
+		return withLocks(Set.of(product), () -> getReservedQuantity(product, null, businessTime.getTime()));
+	}
+
+	/**
+	 * Returns the {@link Quantity} currently reserved for the {@link org.salespointframework.catalog.Product} with the
+	 * given identifier by orders other than the given one.
+	 *
+	 * @param product must not be {@literal null}.
+	 * @param order must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Quantity getReservedQuantityExcluding(ProductIdentifier product, OrderIdentifier order) {
+
+		Assert.notNull(product, "Product identifier must not be null!");
+		Assert.notNull(order, "Order identifier must not be null!");
+
+		return withLocks(Set.of(product), () -> getReservedQuantity(product, order, businessTime.getTime()));
+	}
+
+	/**
+	 * Returns the {@link Quantity} of the given {@link UniqueInventoryItem} that is available to promise, i.e. the stock
+	 * of the item minus all currently active reservations. Doesn't issue any database queries.
+	 *
+	 * @param item must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Quantity getAvailableToPromise(UniqueInventoryItem item) {
+
+		Assert.notNull(item, "UniqueInventoryItem must not be null!");
+
+		return withLocks(Set.of(item.getProduct().getId()),
+				() -> getAvailableToPromise(item, null, businessTime.getTime()));
+	}
+
+	/**
+	 * Returns whether there are any active reservations for the order with the given identifier.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasReservationsFor(OrderIdentifier order) {
+
+		Assert.notNull(order, "Order identifier must not be null!");
+
+		var now = businessTime.getTime();
+
+		return withOrderLock(order, () -> {
+
+			var products = productsByOrder.get(order);
+
+			return products != null && withLocks(new HashSet<>(products), () -> products.stream() //
+					.map(holds::get) //
+					.filter(it -> it != null) //
+					.map(it -> it.get(order)) //
+					.anyMatch(it -> it != null && !it.isExpiredAt(now)));
+		});
+	}
+
+	private Quantity getAvailableToPromise(UniqueInventoryItem item, @Nullable OrderIdentifier excluded, LocalDateTime now) {
+
+		var quantity = item.getQuantity();
+
+		return quantity.subtract(getReservedQuantity(item.getProduct().getId(), excluded, now));
+	}
+
+	/**
+	 * Returns the reserved {@link Quantity} for the given product ignoring the holds of the given order and
+	 * purging expired ones. Needs to be called with the lock stripe for the product held.
+	 *
+	 * @param product must not be {@literal null}.
+	 * @param excluded can be {@literal null}.
+	 * @param now must not be {@literal null}.
+	 * @return
+	 */
+	private Quantity getReservedQuantity(ProductIdentifier product, @Nullable OrderIdentifier excluded, LocalDateTime now) {
+
+		var productHolds = holds.get(product);
+
+		if (productHolds == null) {
+			return Quantity.NONE;
+		}
+
+		var reserved = Quantity.NONE;
+		var iterator = productHolds.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+
+			var entry = iterator.next();
+
+			if (entry.getValue().isExpiredAt(now)) {
+				iterator.remove();
+				removeProduct(entry.getKey(), product);
+				continue;
+			}
+
+			if (!entry.getKey().equals(excluded)) {
+				reserved = reserved.add(entry.getValue().getQuantity());
+			}
+		}
+
+		if (productHolds.isEmpty()) {
+			holds.remove(product);
+		}
+
+		return reserved;
+	}
+
+	private void releaseLocked(OrderIdentifier order) {
+
+		var products = productsByOrder.remove(order);
+
+		if (products == null) {
+			return;
+		}
+
+		products.forEach(product -> holds.computeIfPresent(product, (__, productHolds) -> {
+			productHolds.remove(order);
+			return productHolds.isEmpty() ? null : productHolds;
+		}));
+	}
+
+	private void removeProduct(OrderIdentifier order, ProductIdentifier product) {
+
+		productsByOrder.computeIfPresent(order, (__, products) -> {
+			products.remove(product);
+			return products.isEmpty() ? null : products;
+		});
+	}
+
+	/**
+	 * Executes the given {@link Supplier} holding the lock stripes for all given products. Stripes are acquired in
+	 * ascending order to prevent deadlocks.
+	 *
+	 * @param products must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	private <T> T withLocks(Set<ProductIdentifier> products, Supplier<T> callback) {
+
+		var stripes = products.stream() //
+				.mapToInt(it -> Math.floorMod(it.hashCode(), STRIPES)) //
+				.distinct() //
+				.sorted() //
+				.toArray();
+
+		int acquired = 0;
+
+		try {
+
+			for (int stripe : stripes) {
+				locks[stripe].lock();
+				acquired++;
+			}
+
+			return callback.get();
+
+		} finally {
+
+			for (int i = acquired - 1; i >= 0; i--) {
+				locks[stripes[i]].unlock();
+			}
+		}
+	}
+
+	/**
+	 * Executes the given {@link Supplier} holding the lock stripe for the given order. Needs to be acquired before any
+	 * product stripes.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	private <T> T withOrderLock(OrderIdentifier order, Supplier<T> callback) {
+
+		var lock = orderLocks[Math.floorMod(order.hashCode(), STRIPES)];
+
+		lock.lock();
+
+		try {
+			return callback.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the reservations of an order in case the transaction they were made in rolls back.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private class ReleaseOnRollback implements TransactionSynchronization {
+
+		private final OrderIdentifier order;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+		 */
+		@Override
+		public void afterCompletion(int status) {
+
+			if (status == STATUS_ROLLED_BACK) {
+				release(order);
+			}
+		}
+	}
+
+	@Value
+	private static class Hold {
+
+		@NonNull Quantity quantity;
+		@NonNull LocalDateTime expiresAt;
+
+		boolean isExpiredAt(LocalDateTime reference) {
+			return !expiresAt.isAfter(reference);
+		}
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.salespointframework.inventory;
 
+import java.util.Collection;
+
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.ProductIdentifier;
 import org.salespointframework.core.SalespointRepository;
@@ -40,6 +42,16 @@ public interface MultiInventory<T extends MultiInventoryItem>
 	@Query("select i from #{#entityName} i where i.product.id = ?1")
 	InventoryItems<T> findByProductIdentifier(ProductIdentifier productIdentifier);
 
+	/**
+	 * Returns all {@link InventoryItems} available for any of the given {@link ProductIdentifier}s in a single query.
+	 *
+	 * @param productIdentifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	@Query("select i from #{#entityName} i where i.product.id in ?1")
+	InventoryItems<T> findByProductIdentifierIn(Collection<ProductIdentifier> productIdentifiers);
+
 	/**
 	 * Returns all {@link InventoryItems} available for a given {@link Product}.
 	 *
@@ -15,6 +15,7 @@
  */
 package org.salespointframework.inventory;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.salespointframework.catalog.Product;
@@ -22,7 +23,12 @@ import org.salespointframework.catalog.ProductIdentifier;
 import org.salespointframework.core.SalespointRepository;
 import org.salespointframework.order.Order;
 import org.salespointframework.quantity.Quantity;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 /**
  * A {@link UniqueInventory} manages {@link UniqueInventoryItem}s, i.e. only a single {@link InventoryItem} can exist
@@ -48,6 +54,16 @@ public interface UniqueInventory<T extends UniqueInventoryItem>
 	@Query("select i from #{#entityName} i where i.product.id = ?1")
 	Optional<T> findByProductIdentifier(ProductIdentifier productIdentifier);
 
+	/**
+	 * Returns all {@link InventoryItem}s for the given {@link ProductIdentifier}s in a single query.
+	 *
+	 * @param productIdentifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	@Query("select i from #{#entityName} i where i.product.id in ?1")
+	Streamable<T> findByProductIdentifierIn(Collection<ProductIdentifier> productIdentifiers);
+
 	/**
 	 * Returns the {@link InventoryItem} for the given {@link Product}.
 	 *
@@ -57,4 +73,106 @@ public interface UniqueInventory<T extends UniqueInventoryItem>
 	default Optional<T> findByProduct(Product product) {
 		return findByProductIdentifier(product.getId());
 	}
+
+	/**
+	 * Atomically decreases the {@link Quantity} of the {@link InventoryItem} for the given {@link ProductIdentifier} by
+	 * the given {@link Quantity} in case the item's {@link Quantity} is sufficient. The check and the update are
+	 * executed as a single conditional update statement, i.e. no read is needed upfront and concurrent invocations for
+	 * the same {@link Product} cannot oversell it.
+	 * <p>
+	 * Note, that as the update is executed against the database directly, {@link InventoryItem} instances already
+	 * loaded into the current persistence context will not reflect the changed {@link Quantity}. Refresh them before
+	 * changing them, as saving them would otherwise overwrite the update.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @return whether the {@link Quantity} was decreased, i.e. {@literal false} if there's no {@link InventoryItem} for
+	 *         the given {@link ProductIdentifier}, its {@link Quantity} is insufficient or uses a different metric.
+	 * @since 8.0
+	 */
+	default boolean tryDecrease(ProductIdentifier productIdentifier, Quantity quantity) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+		Assert.notNull(quantity, "Quantity must not be null!");
+
+		return tryDecrease(productIdentifier, quantity, Quantity.NONE);
+	}
+
+	/**
+	 * Atomically decreases the {@link Quantity} of the {@link InventoryItem} for the given {@link ProductIdentifier} by
+	 * the given {@link Quantity} in case the item's {@link Quantity} is sufficient to serve it while still leaving the
+	 * given retained {@link Quantity} in stock. Useful to not consume stock that's reserved for others. The same caveats
+	 * as for {@link #tryDecrease(ProductIdentifier, Quantity)} apply.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @param retained the {@link Quantity} that has to remain in stock, must not be {@literal null}.
+	 * @return whether the {@link Quantity} was decreased, i.e. {@literal false} if there's no {@link InventoryItem} for
+	 *         the given {@link ProductIdentifier}, its {@link Quantity} is insufficient or uses a different metric.
+	 * @since 8.0
+	 */
+	default boolean tryDecrease(ProductIdentifier productIdentifier, Quantity quantity, Quantity retained) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+		Assert.notNull(quantity, "Quantity must not be null!");
+		Assert.notNull(retained, "Retained quantity must not be null!");
+
+		var required = retained.isZeroOrNegative() ? quantity : quantity.add(retained);
+
+		return decreaseIfSufficient(productIdentifier, quantity, required) > 0;
+	}
+
+	/**
+	 * Conditional update backing {@link #tryDecrease(ProductIdentifier, Quantity, Quantity)}. Prefer calling that one.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @param required the {@link Quantity} that needs to be in stock for the update to happen, must not be
+	 *          {@literal null}.
+	 * @return the number of {@link InventoryItem}s updated.
+	 * @since 8.0
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("update #{#entityName} i set i.quantity.amount = i.quantity.amount - ?#{#quantity.amount} " //
+			+ "where i.product.id = :productIdentifier " //
+			+ "and i.quantity.metric = ?#{#quantity.metric} " //
+			+ "and i.quantity.amount >= ?#{#required.amount}")
+	int decreaseIfSufficient(@Param("productIdentifier") ProductIdentifier productIdentifier,
+			@Param("quantity") Quantity quantity, @Param("required") Quantity required);
+
+	/**
+	 * Atomically increases the {@link Quantity} of the {@link InventoryItem} for the given {@link ProductIdentifier} by
+	 * the given {@link Quantity} using a single update statement, i.e. without reading the {@link InventoryItem} upfront.
+	 * The same caveats regarding {@link InventoryItem} instances already loaded into the current persistence context as
+	 * for {@link #tryDecrease(ProductIdentifier, Quantity)} apply.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @return whether the {@link Quantity} was increased, i.e. {@literal false} if there's no {@link InventoryItem} for
+	 *         the given {@link ProductIdentifier} or it uses a different metric.
+	 * @since 8.0
+	 */
+	default boolean tryIncrease(ProductIdentifier productIdentifier, Quantity quantity) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+		Assert.notNull(quantity, "Quantity must not be null!");
+
+		return increase(productIdentifier, quantity) > 0;
+	}
+
+	/**
+	 * Update backing {@link #tryIncrease(ProductIdentifier, Quantity)}. Prefer calling that one.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @return the number of {@link InventoryItem}s updated.
+	 * @since 8.0
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("update #{#entityName} i set i.quantity.amount = i.quantity.amount + ?#{#quantity.amount} " //
+			+ "where i.product.id = :productIdentifier " //
+			+ "and i.quantity.metric = ?#{#quantity.metric}")
+	int increase(@Param("productIdentifier") ProductIdentifier productIdentifier, @Param("quantity") Quantity quantity);
 }
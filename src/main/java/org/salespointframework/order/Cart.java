@@ -22,9 +22,8 @@ import java.util.Optional;
 
 import javax.money.MonetaryAmount;
 
-import org.javamoney.moneta.Money;
 import org.salespointframework.catalog.Product;
-import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order.OrderCreatedFromCart;
 import org.salespointframework.quantity.Quantity;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.util.Streamable;
@@ -148,7 +147,8 @@ public class Cart implements Streamable<CartItem>, Priced {
 	}
 
 	/**
-	 * Creates a new Order for the given {@link UserAccount} from the current {@link Cart}.
+	 * Creates a new Order for the given {@link UserAccount} from the current {@link Cart}. The {@link Order} will publish
+	 * an {@link OrderCreatedFromCart} event once saved.
 	 * 
 	 * @param user must not be {@literal null}.
 	 * @return a new Order for the current {@link Cart} and given {@link UserAccount}.
@@ -157,7 +157,7 @@ public class Cart implements Streamable<CartItem>, Priced {
 
 		Assert.notNull(user, "User account must not be null!");
 
-		return addItemsTo(new Order(user));
+		return addItemsTo(new Order(user)).markCreatedFromCart();
 	}
 
 	/* 
@@ -167,10 +167,7 @@ public class Cart implements Streamable<CartItem>, Priced {
 	@Override
 	public MonetaryAmount getPrice() {
 
-		return items.values().stream() //
-				.map(CartItem::getPrice) //
-				.reduce(MonetaryAmount::add) //
-				.orElse(Money.of(0, Currencies.EURO));
+		return PriceArithmetic.sum(items.values());
 	}
 
 	/* 
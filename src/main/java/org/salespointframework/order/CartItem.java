@@ -73,7 +73,7 @@ public class CartItem implements Priced {
 
 		this.id = id;
 		this.quantity = quantity;
-		this.price = product.getPrice().multiply(quantity.getAmount());
+		this.price = PriceArithmetic.multiply(product.getPrice(), quantity.getAmount());
 		this.product = product;
 	}
 
@@ -19,12 +19,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import javax.money.MonetaryAmount;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.Inheritance;
@@ -32,6 +32,7 @@ import javax.persistence.InheritanceType;
 import javax.persistence.ManyToOne;
 
 import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.support.EmbeddableMonetaryAmount;
 import org.springframework.util.Assert;
 
 /**
@@ -43,7 +44,6 @@ import org.springframework.util.Assert;
  */
 @Entity
 @NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
-@RequiredArgsConstructor
 @Getter
 @ToString
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
@@ -53,9 +53,28 @@ public class ChargeLine extends AbstractEntity<ChargeLineIdentifier> implements
 	@AttributeOverride(name = "id", column = @Column(name = "CHARGELINE_ID")) //
 	private ChargeLineIdentifier chargeLineIdentifier = new ChargeLineIdentifier();
 
-	private final @NonNull MonetaryAmount price;
+	@Embedded //
+	@AttributeOverride(name = "amount", column = @Column(name = "PRICE_AMOUNT", precision = 38, scale = 18)) //
+	@AttributeOverride(name = "currency", column = @Column(name = "PRICE_CURRENCY", length = 3)) //
+	@AttributeOverride(name = "legacy", column = @Column(name = "PRICE", insertable = false, updatable = false)) //
+	private final @NonNull EmbeddableMonetaryAmount price;
 	private final @NonNull String description;
 
+	/**
+	 * Creates a new {@link ChargeLine} for the given price and description.
+	 *
+	 * @param price must not be {@literal null}.
+	 * @param description must not be {@literal null}.
+	 */
+	public ChargeLine(MonetaryAmount price, String description) {
+
+		Assert.notNull(price, "Price must not be null!");
+		Assert.notNull(description, "Description must not be null!");
+
+		this.price = EmbeddableMonetaryAmount.of(price);
+		this.description = description;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.domain.Persistable#getId()
@@ -64,6 +83,15 @@ public class ChargeLine extends AbstractEntity<ChargeLineIdentifier> implements
 		return chargeLineIdentifier;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.Priced#getPrice()
+	 */
+	@Override
+	public MonetaryAmount getPrice() {
+		return price.toMonetaryAmount();
+	}
+
 	/**
 	 * A {@link ChargeLine} that's attached to an {@link OrderLine}. Create via
 	 * {@link Order#addChargeLine(MonetaryAmount, String, int)} or
@@ -25,14 +25,20 @@ import lombok.Value;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import javax.money.MonetaryAmount;
 import javax.persistence.*;
 
 import org.moduliths.Event;
 import org.salespointframework.catalog.Product;
+import org.salespointframework.catalog.ProductIdentifier;
 import org.salespointframework.core.AbstractAggregateRoot;
+import org.salespointframework.core.Currencies;
 import org.salespointframework.order.ChargeLine.AttachedChargeLine;
 import org.salespointframework.payment.PaymentMethod;
 import org.salespointframework.quantity.Quantity;
@@ -40,6 +46,7 @@ import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -48,7 +55,10 @@ import org.springframework.util.Assert;
  * @author Oliver Gierke
  */
 @Entity
-@Table(name = "ORDERS")
+@Table(name = "ORDERS", indexes = @Index(name = "IDX_ORDERS_DATE_CREATED", columnList = "dateCreated, ORDER_ID"))
+@NamedEntityGraph(name = "Order.summary", attributeNodes = @NamedAttributeNode("userAccount"))
+@NamedEntityGraph(name = "Order.withLines",
+		attributeNodes = { @NamedAttributeNode("userAccount"), @NamedAttributeNode("orderLines") })
 @ToString(doNotUseGetters = true)
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 public class Order extends AbstractAggregateRoot<OrderIdentifier> {
@@ -83,8 +93,16 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 	@OneToMany(cascade = CascadeType.ALL) //
 	private List<AttachedChargeLine> attachedChargeLines = new ArrayList<>();
 
+	// Running total of all lines, kept up to date on line changes, null for orders without lines and orders persisted
+	// before it was introduced
+	private MonetaryAmount total;
+
 	private transient final Collection<Object> events = new ArrayList<>();
 
+	// Lookup indexes for the line collections, built lazily and maintained on changes to the lines
+	private transient Map<ProductIdentifier, List<OrderLine>> orderLinesByProduct;
+	private transient Map<OrderLine, List<AttachedChargeLine>> chargeLinesByOrderLine;
+
 	/**
 	 * Creates a new Order
 	 *
@@ -143,8 +161,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		Assert.notNull(product, "Product must not be null!");
 
-		return Totalable.of(Streamable.of(() -> orderLines.stream() //
-				.filter(it -> it.refersTo(product))));
+		return Totalable.of(Streamable.of(() -> getOrderLinesByProduct() //
+				.getOrDefault(product.getId(), Collections.emptyList()) //
+				.stream()));
 	}
 
 	/**
@@ -185,20 +204,27 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 	 */
 	public Totalable<AttachedChargeLine> getChargeLines(OrderLine orderLine) {
 
-		List<AttachedChargeLine> foo = attachedChargeLines;
+		Assert.notNull(orderLine, "Order line must not be null!");
 
-		return Totalable.of(Streamable.of(() -> foo.stream() //
-				.filter(it -> it.belongsTo(orderLine))));
+		return Totalable.of(Streamable.of(() -> getChargeLinesByOrderLine() //
+				.getOrDefault(orderLine, Collections.emptyList()) //
+				.stream()));
 	}
 
 	/**
-	 * Returns the total price of the {@link Order}.
+	 * Returns the total price of the {@link Order}. The total is maintained on changes to the {@link OrderLine}s and
+	 * {@link ChargeLine}s and persisted with the {@link Order}, so that looking it up doesn't require them to be loaded.
 	 *
 	 * @return
 	 * @since 7.1
 	 */
 	public MonetaryAmount getTotal() {
-		return getOrderLines().getTotal().add(getAllChargeLines().getTotal());
+
+		if (total == null) {
+			this.total = calculateTotal();
+		}
+
+		return total == null ? Currencies.ZERO_EURO : total;
 	}
 
 	/**
@@ -250,7 +276,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		Assert.notNull(orderLine, "OrderLine must not be null!");
 		assertOrderIsOpen();
 
+		addToTotal(orderLine);
 		this.orderLines.add(orderLine);
+		index(orderLine);
 
 		return orderLine;
 	}
@@ -270,7 +298,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		OrderLine orderLine = new OrderLine(product, quantity);
 
+		addToTotal(orderLine);
 		this.orderLines.add(orderLine);
+		index(orderLine);
 
 		return orderLine;
 	}
@@ -287,7 +317,10 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		removeChargeLinesFor(orderLine);
 
-		this.orderLines.remove(orderLine);
+		if (this.orderLines.remove(orderLine)) {
+			subtractFromTotal(orderLine);
+			unindex(orderLine);
+		}
 	}
 
 	/**
@@ -302,6 +335,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		Assert.notNull(chargeLine, "ChargeLine must not be null!");
 		assertOrderIsOpen();
 
+		addToTotal(chargeLine);
 		this.chargeLines.add(chargeLine);
 
 		return chargeLine;
@@ -324,6 +358,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		ChargeLine chargeLine = new ChargeLine(price, description);
 
+		addToTotal(chargeLine);
 		this.chargeLines.add(chargeLine);
 
 		return chargeLine;
@@ -370,7 +405,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		AttachedChargeLine chargeLine = new AttachedChargeLine(price, description, orderLine);
 
+		addToTotal(chargeLine);
 		this.attachedChargeLines.add(chargeLine);
+		index(chargeLine);
 
 		return chargeLine;
 	}
@@ -381,7 +418,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		assertOrderIsOpen();
 
-		this.chargeLines.remove(chargeLine);
+		if (this.chargeLines.remove(chargeLine)) {
+			subtractFromTotal(chargeLine);
+		}
 	}
 
 	/**
@@ -396,7 +435,10 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		assertOrderIsOpen();
 
-		this.attachedChargeLines.remove(chargeLine);
+		if (this.attachedChargeLines.remove(chargeLine)) {
+			subtractFromTotal(chargeLine);
+			unindex(chargeLine);
+		}
 	}
 
 	/**
@@ -409,9 +451,20 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		Assert.notNull(orderLine, "Order line must not be null!");
 
-		getChargeLines(orderLine) //
-				.toList() //
-				.forEach(this::remove);
+		var chargeLines = getChargeLinesByOrderLine().get(orderLine);
+
+		if (chargeLines == null) {
+			return;
+		}
+
+		assertOrderIsOpen();
+
+		this.chargeLinesByOrderLine.remove(orderLine);
+
+		// Remove all charge lines in a single pass over the attached charge lines
+		this.attachedChargeLines.removeAll(new HashSet<>(chargeLines));
+
+		chargeLines.forEach(this::subtractFromTotal);
 	}
 
 	/**
@@ -500,6 +553,19 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		return this;
 	}
 
+	/**
+	 * Marks the current {@link Order} as created from a {@link Cart}. Will publish an {@link OrderCreatedFromCart} event.
+	 *
+	 * @return
+	 * @since 8.0
+	 */
+	Order markCreatedFromCart() {
+
+		registerEvent(OrderCreatedFromCart.of(this));
+
+		return this;
+	}
+
 	int getNumberOfLineItems() {
 		return this.orderLines.size();
 	}
@@ -530,6 +596,116 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		}
 	}
 
+	/**
+	 * Drops the lookup indexes as they need to be rebuilt from the line collections once loaded or refreshed.
+	 */
+	@PostLoad
+	void resetIndexes() {
+
+		this.orderLinesByProduct = null;
+		this.chargeLinesByOrderLine = null;
+	}
+
+	private Map<ProductIdentifier, List<OrderLine>> getOrderLinesByProduct() {
+
+		if (orderLinesByProduct == null) {
+
+			this.orderLinesByProduct = new HashMap<>();
+			this.orderLines.forEach(this::index);
+		}
+
+		return orderLinesByProduct;
+	}
+
+	private Map<OrderLine, List<AttachedChargeLine>> getChargeLinesByOrderLine() {
+
+		if (chargeLinesByOrderLine == null) {
+
+			this.chargeLinesByOrderLine = new HashMap<>();
+			this.attachedChargeLines.forEach(this::index);
+		}
+
+		return chargeLinesByOrderLine;
+	}
+
+	private void index(OrderLine orderLine) {
+
+		if (orderLinesByProduct != null) {
+			orderLinesByProduct.computeIfAbsent(orderLine.getProductIdentifier(), __ -> new ArrayList<>()).add(orderLine);
+		}
+	}
+
+	private void unindex(OrderLine orderLine) {
+
+		if (orderLinesByProduct != null) {
+			orderLinesByProduct.computeIfPresent(orderLine.getProductIdentifier(), (__, lines) -> {
+				lines.remove(orderLine);
+				return lines.isEmpty() ? null : lines;
+			});
+		}
+	}
+
+	private void index(AttachedChargeLine chargeLine) {
+
+		if (chargeLinesByOrderLine != null) {
+			chargeLinesByOrderLine.computeIfAbsent(chargeLine.getOrderLine(), __ -> new ArrayList<>()).add(chargeLine);
+		}
+	}
+
+	private void unindex(AttachedChargeLine chargeLine) {
+
+		if (chargeLinesByOrderLine != null) {
+			chargeLinesByOrderLine.computeIfPresent(chargeLine.getOrderLine(), (__, lines) -> {
+				lines.remove(chargeLine);
+				return lines.isEmpty() ? null : lines;
+			});
+		}
+	}
+
+	/**
+	 * Adds the price of the given {@link Priced} to the total. Has to be called before the line is added, so that a price
+	 * in a currency different from the one of the existing lines is rejected without changing the {@link Order}. The
+	 * first line determines the currency of the total.
+	 *
+	 * @param priced must not be {@literal null}.
+	 */
+	private void addToTotal(Priced priced) {
+
+		var current = total == null ? calculateTotal() : total;
+		var price = priced.getPrice();
+
+		this.total = current == null ? price : PriceArithmetic.add(current, price);
+	}
+
+	/**
+	 * Subtracts the price of the given {@link Priced} from the total. Has to be called after the line was removed.
+	 *
+	 * @param priced must not be {@literal null}.
+	 */
+	private void subtractFromTotal(Priced priced) {
+
+		this.total = total == null || !hasLines() //
+				? calculateTotal() //
+				: PriceArithmetic.subtract(total, priced.getPrice());
+	}
+
+	/**
+	 * Calculates the total from all lines of the {@link Order}.
+	 *
+	 * @return {@literal null} in case the {@link Order} doesn't contain any lines.
+	 */
+	@Nullable
+	private MonetaryAmount calculateTotal() {
+
+		return hasLines() //
+				? PriceArithmetic.sum(Streamable.<Priced> empty().and(orderLines).and(chargeLines).and(attachedChargeLines)) //
+				: null;
+	}
+
+	private boolean hasLines() {
+		return !orderLines.isEmpty() || !chargeLines.isEmpty() || !attachedChargeLines.isEmpty();
+	}
+
 	private OrderLine getRequiredOrderLineByIndex(int index) {
 
 		Range<Integer> allowedIndexRange = Range.from(Bound.inclusive(0))//
@@ -589,4 +765,20 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 			return "OrderCancelled: " + reason;
 		}
 	}
+
+	@Event
+	@Value(staticConstructor = "of")
+	public static class OrderCreatedFromCart {
+
+		Order order;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "OrderCreatedFromCart";
+		}
+	}
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+/**
+ * The fetch plans available to look up {@link Order}s via the {@link OrderManager}, i.e. definitions of how much of the
+ * {@link Order} aggregate is loaded alongside the {@link Order} itself.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+public enum OrderFetchPlan {
+
+	/**
+	 * Loads the {@link Order} and its {@link org.salespointframework.useraccount.UserAccount} in a single query. Line
+	 * items are loaded lazily on access. Sufficient to render lists of {@link Order}s showing their totals, as those are
+	 * persisted with the {@link Order}.
+	 */
+	SUMMARY,
+
+	/**
+	 * Loads the {@link Order} and its {@link org.salespointframework.useraccount.UserAccount} and {@link OrderLine}s in a
+	 * single query. The {@link ChargeLine}s of all {@link Order}s found are loaded by one additional query per type of
+	 * {@link ChargeLine}.
+	 */
+	WITH_LINES;
+}
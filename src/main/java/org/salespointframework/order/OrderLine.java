@@ -32,6 +32,7 @@ import org.salespointframework.catalog.ProductIdentifier;
 import org.salespointframework.core.AbstractEntity;
 import org.salespointframework.quantity.MetricMismatchException;
 import org.salespointframework.quantity.Quantity;
+import org.salespointframework.support.EmbeddableMonetaryAmount;
 import org.springframework.util.Assert;
 
 /**
@@ -53,7 +54,12 @@ public class OrderLine extends AbstractEntity<OrderLineIdentifier> implements Pr
 	@AttributeOverride(name = "id", column = @Column(name = "PRODUCT_ID")) //
 	private @Getter ProductIdentifier productIdentifier;
 
-	private @Getter MonetaryAmount price;
+	@Embedded //
+	@AttributeOverride(name = "amount", column = @Column(name = "PRICE_AMOUNT", precision = 38, scale = 18)) //
+	@AttributeOverride(name = "currency", column = @Column(name = "PRICE_CURRENCY", length = 3)) //
+	@AttributeOverride(name = "legacy", column = @Column(name = "PRICE", insertable = false, updatable = false)) //
+	private EmbeddableMonetaryAmount price;
+
 	private @Getter Quantity quantity;
 	private @Getter String productName;
 
@@ -74,7 +80,7 @@ public class OrderLine extends AbstractEntity<OrderLineIdentifier> implements Pr
 
 		this.productIdentifier = product.getId();
 		this.quantity = quantity;
-		this.price = product.getPrice().multiply(quantity.getAmount());
+		this.price = EmbeddableMonetaryAmount.of(PriceArithmetic.multiply(product.getPrice(), quantity.getAmount()));
 		this.productName = product.getName();
 	}
 
@@ -87,6 +93,15 @@ public class OrderLine extends AbstractEntity<OrderLineIdentifier> implements Pr
 		return orderLineIdentifier;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.Priced#getPrice()
+	 */
+	@Override
+	public MonetaryAmount getPrice() {
+		return price.toMonetaryAmount();
+	}
+
 	/**
 	 * Returns whether the {@link OrderLine} refers to the given {@link Product}.
 	 * 
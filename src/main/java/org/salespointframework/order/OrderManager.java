@@ -16,7 +16,10 @@
 package org.salespointframework.order;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.salespointframework.core.ContinuationToken;
+import org.salespointframework.core.KeysetSlice;
 import org.salespointframework.order.Order.OrderCancelled;
 import org.salespointframework.order.Order.OrderCompleted;
 import org.salespointframework.order.Order.OrderPaid;
@@ -68,18 +71,68 @@ public interface OrderManager<T extends Order> {
 	 *
 	 * @param orderStatus Denoting the {@link OrderStatus} on which the {@link Order}s will be requested.
 	 * @return a {@link Streamable} containing all {@link Order}s with the specified {@link OrderStatus}
+	 * @see OrderFetchPlan#SUMMARY
 	 */
 	Streamable<T> findBy(OrderStatus orderStatus);
 
+	/**
+	 * Returns all {@link Order}s having the given {@link OrderStatus} loaded using the given {@link OrderFetchPlan}.
+	 *
+	 * @param orderStatus must not be {@literal null}.
+	 * @param fetchPlan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all {@link Order}s with the specified {@link OrderStatus}.
+	 * @since 8.0
+	 */
+	Streamable<T> findBy(OrderStatus orderStatus, OrderFetchPlan fetchPlan);
+
 	/**
 	 * Returns all {@link Order}s in between the {@link Interval}. So every entry with an time stamp <= to and >= from is
 	 * returned. If no {@link Order}s within the specified time span exist, an empty {@link Iterable} is returned.
 	 *
 	 * @param interval The time interval to find {@link Order}s in, must not be {@literal null}.
 	 * @return a {@link Streamable} containing all {@link Order}s in the given {@link Interval}.
+	 * @see OrderFetchPlan#SUMMARY
 	 */
 	Streamable<T> findBy(Interval interval);
 
+	/**
+	 * Returns all {@link Order}s as {@link Stream} backed by a database cursor. The {@link Order}s are detached from the
+	 * persistence context once consumed, unless configured otherwise via {@code salespoint.streaming.disable-detaching}.
+	 * Has to be called within a transaction and the {@link Stream} has to be closed after use. The default implementation
+	 * falls back to {@link #findAll(Pageable)} and thus reads all {@link Order}s into memory.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see org.salespointframework.core.EntityStreams
+	 */
+	default Stream<T> streamAll() {
+		return findAll(Pageable.unpaged()).get();
+	}
+
+	/**
+	 * Returns all {@link Order}s in between the given {@link Interval} as {@link Stream} backed by a database cursor. Has
+	 * to be called within a transaction and the {@link Stream} has to be closed after use. The default implementation
+	 * falls back to {@link #findBy(Interval)} and thus reads all {@link Order}s within the {@link Interval} into memory.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see #streamAll()
+	 */
+	default Stream<T> stream(Interval interval) {
+		return findBy(interval).stream();
+	}
+
+	/**
+	 * Returns all {@link Order}s in between the {@link Interval} loaded using the given {@link OrderFetchPlan}.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @param fetchPlan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all {@link Order}s in the given {@link Interval}.
+	 * @since 8.0
+	 */
+	Streamable<T> findBy(Interval interval, OrderFetchPlan fetchPlan);
+
 	/**
 	 * Returns all {@link Order}s of the given {@link UserAccount}. If this user has no orders, an empty {@link Iterable}
 	 * is returned.
@@ -87,9 +140,20 @@ public interface OrderManager<T extends Order> {
 	 * @param userAccount Denoting the {@link UserAccount} on which the orders will be requested, must not be
 	 *          {@literal null}.
 	 * @return a {@link Streamable} containing all orders of the specified user.
+	 * @see OrderFetchPlan#SUMMARY
 	 */
 	Streamable<T> findBy(UserAccount userAccount);
 
+	/**
+	 * Returns all {@link Order}s of the given {@link UserAccount} loaded using the given {@link OrderFetchPlan}.
+	 *
+	 * @param userAccount must not be {@literal null}.
+	 * @param fetchPlan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all orders of the specified user.
+	 * @since 8.0
+	 */
+	Streamable<T> findBy(UserAccount userAccount, OrderFetchPlan fetchPlan);
+
 	/**
 	 * Returns all {@link Order}s from the given {@link UserAccount} in between the dates {@code from} and {@code to},
 	 * including from and to. So every entry with an time stamp <= to and >= from is returned. If this user has no
@@ -98,9 +162,22 @@ public interface OrderManager<T extends Order> {
 	 * @param userAccount The {@link UserAccount} whose {@link Order}s shall be returned, must not be {@literal null}.
 	 * @param interval The time interval to find {@link Order}s in, must not be {@literal null}.
 	 * @return a {@link Streamable} containing all orders from the specified user in the specified period.
+	 * @see OrderFetchPlan#SUMMARY
 	 */
 	Streamable<T> findBy(UserAccount userAccount, Interval interval);
 
+	/**
+	 * Returns all {@link Order}s from the given {@link UserAccount} in between the given {@link Interval} loaded using the
+	 * given {@link OrderFetchPlan}.
+	 *
+	 * @param userAccount must not be {@literal null}.
+	 * @param interval must not be {@literal null}.
+	 * @param fetchPlan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all orders from the specified user in the specified period.
+	 * @since 8.0
+	 */
+	Streamable<T> findBy(UserAccount userAccount, Interval interval, OrderFetchPlan fetchPlan);
+
 	/**
 	 * Tries to complete this order, the {@link OrderStatus} has to be {@link OrderStatus#PAID}.
 	 *
@@ -144,4 +221,27 @@ public interface OrderManager<T extends Order> {
 	 * @since 7.1
 	 */
 	Page<T> findAll(Pageable pageable);
+
+	/**
+	 * Returns the first {@link KeysetSlice} of {@link Order}s ordered by their creation date and identifier. Use
+	 * {@link KeysetSlice#getContinuationToken()} to look up the next {@link KeysetSlice} via
+	 * {@link #findSlice(ContinuationToken, int)}. Other than {@link #findAll(Pageable)}, this doesn't issue a count query
+	 * and doesn't slow down when navigating deep into the {@link Order}s.
+	 *
+	 * @param size the maximum number of {@link Order}s to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	KeysetSlice<T> findSlice(int size);
+
+	/**
+	 * Returns the {@link KeysetSlice} of {@link Order}s following the position described by the given
+	 * {@link ContinuationToken}, ordered by their creation date and identifier.
+	 *
+	 * @param token must not be {@literal null}.
+	 * @param size the maximum number of {@link Order}s to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	KeysetSlice<T> findSlice(ContinuationToken token, int size);
 }
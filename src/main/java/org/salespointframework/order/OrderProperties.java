@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import lombok.Value;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Properties to configure Salespoint's order management. Declare {@code salespoint.order.…} in application properties
+ * to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.order")
+class OrderProperties {
+
+	/**
+	 * Enable scaled {@code long} arithmetic to calculate the prices of {@link OrderLine}s and {@link CartItem}s as well as
+	 * the totals of {@link Order}s and {@link Cart}s, defaults to {@literal false}.
+	 */
+	private boolean enableFastMoney;
+}
@@ -16,11 +16,17 @@
 package org.salespointframework.order;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
+import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.order.ChargeLine.AttachedChargeLine;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.util.Streamable;
@@ -30,7 +36,13 @@ import org.springframework.data.util.Streamable;
  *
  * @author Oliver Gierke
  */
-interface OrderRepository<T extends Order> extends PagingAndSortingRepository<T, OrderIdentifier> {
+interface OrderRepository<T extends Order>
+		extends PagingAndSortingRepository<T, OrderIdentifier>, SalespointRepository<T, OrderIdentifier> {
+
+	// Names of the entity graphs declared on Order, see OrderFetchPlan. Fetching the order lines requires distinct
+	// queries to not return an Order per OrderLine.
+	static final String SUMMARY = "Order.summary";
+	static final String WITH_LINES = "Order.withLines";
 
 	/**
 	 * Re-declaration of the method actually already contained in {@link PagingAndSortingRepository} to use the JPQL based
@@ -41,6 +53,7 @@ interface OrderRepository<T extends Order> extends PagingAndSortingRepository<T,
 	 * @return
 	 */
 	@Override
+	@EntityGraph(SUMMARY)
 	@Query("select o from #{#entityName} o")
 	Page<T> findAll(Pageable pageable);
 
@@ -49,25 +62,113 @@ interface OrderRepository<T extends Order> extends PagingAndSortingRepository<T,
 	 * @param to
 	 * @return
 	 */
+	@EntityGraph(SUMMARY)
 	Streamable<T> findByDateCreatedBetween(LocalDateTime from, LocalDateTime to);
 
+	/**
+	 * @param from
+	 * @param to
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(WITH_LINES)
+	Streamable<T> findDistinctWithLinesByDateCreatedBetween(LocalDateTime from, LocalDateTime to);
+
 	/**
 	 * @param orderStatus
 	 * @return
 	 */
+	@EntityGraph(SUMMARY)
 	Streamable<T> findByOrderStatus(OrderStatus orderStatus);
 
+	/**
+	 * @param orderStatus
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(WITH_LINES)
+	Streamable<T> findDistinctWithLinesByOrderStatus(OrderStatus orderStatus);
+
 	/**
 	 * @param userAccount
 	 * @return
 	 */
+	@EntityGraph(SUMMARY)
 	Streamable<T> findByUserAccount(UserAccount userAccount);
 
+	/**
+	 * @param userAccount
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(WITH_LINES)
+	Streamable<T> findDistinctWithLinesByUserAccount(UserAccount userAccount);
+
 	/**
 	 * @param userAccount
 	 * @param from
 	 * @param to
 	 * @return
 	 */
+	@EntityGraph(SUMMARY)
 	Streamable<T> findByUserAccountAndDateCreatedBetween(UserAccount userAccount, LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * @param userAccount
+	 * @param from
+	 * @param to
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(WITH_LINES)
+	Streamable<T> findDistinctWithLinesByUserAccountAndDateCreatedBetween(UserAccount userAccount, LocalDateTime from,
+			LocalDateTime to);
+
+	/**
+	 * Returns the first {@link Slice} of {@link Order}s ordered by their creation date and identifier.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(SUMMARY)
+	@Query("select o from #{#entityName} o order by o.dateCreated, o.orderIdentifier.id")
+	Slice<T> findSlice(Pageable pageable);
+
+	/**
+	 * Returns the {@link Slice} of {@link Order}s ordered by their creation date and identifier that follows the
+	 * {@link Order} with the given creation date and identifier.
+	 *
+	 * @param dateCreated must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@EntityGraph(SUMMARY)
+	@Query("select o from #{#entityName} o " //
+			+ "where o.dateCreated > ?1 or (o.dateCreated = ?1 and o.orderIdentifier.id > ?2) " //
+			+ "order by o.dateCreated, o.orderIdentifier.id")
+	Slice<T> findSliceAfter(LocalDateTime dateCreated, String identifier, Pageable pageable);
+
+	/**
+	 * Initializes the {@link ChargeLine}s of the {@link Order}s with the given identifiers. Separate from the
+	 * {@link OrderLine}s as JPA providers can't fetch multiple unordered collections in a single query.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select distinct o from #{#entityName} o left join fetch o.chargeLines where o.id in ?1")
+	List<T> fetchChargeLines(Collection<OrderIdentifier> identifiers);
+
+	/**
+	 * Initializes the {@link AttachedChargeLine}s of the {@link Order}s with the given identifiers.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	@Query("select distinct o from #{#entityName} o left join fetch o.attachedChargeLines where o.id in ?1")
+	List<T> fetchAttachedChargeLines(Collection<OrderIdentifier> identifiers);
 }
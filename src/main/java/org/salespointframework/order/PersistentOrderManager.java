@@ -19,14 +19,20 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.salespointframework.core.ContinuationToken;
+import org.salespointframework.core.EntityStreams;
+import org.salespointframework.core.KeysetSlice;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -42,6 +48,7 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 
 	private final @NonNull BusinessTime businessTime;
 	private final @NonNull OrderRepository<T> orderRepository;
+	private final @NonNull EntityStreams streams;
 
 	/*
 	 * (non-Javadoc)
@@ -89,7 +96,52 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 	 */
 	@Override
 	public Streamable<T> findBy(Interval interval) {
-		return orderRepository.findByDateCreatedBetween(interval.getStart(), interval.getEnd());
+		return findBy(interval, OrderFetchPlan.SUMMARY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findBy(org.salespointframework.time.Interval, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(Interval interval, OrderFetchPlan fetchPlan) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.notNull(fetchPlan, "OrderFetchPlan must not be null!");
+
+		var start = interval.getStart();
+		var end = interval.getEnd();
+
+		if (fetchPlan == OrderFetchPlan.SUMMARY) {
+			return orderRepository.findByDateCreatedBetween(start, end);
+		}
+
+		return withChargeLines(orderRepository.findDistinctWithLinesByDateCreatedBetween(start, end));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#streamAll()
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public Stream<T> streamAll() {
+		return (Stream<T>) streams.streamAll(Order.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#stream(org.salespointframework.time.Interval)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public Stream<T> stream(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return (Stream<T>) streams.streamBetween(Order.class, "dateCreated", interval.getStart(), interval.getEnd());
 	}
 
 	/*
@@ -98,10 +150,24 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 	 */
 	@Override
 	public Streamable<T> findBy(OrderStatus orderStatus) {
+		return findBy(orderStatus, OrderFetchPlan.SUMMARY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findBy(org.salespointframework.order.OrderStatus, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(OrderStatus orderStatus, OrderFetchPlan fetchPlan) {
 
 		Assert.notNull(orderStatus, "OrderStatus must not be null");
+		Assert.notNull(fetchPlan, "OrderFetchPlan must not be null!");
 
-		return orderRepository.findByOrderStatus(orderStatus);
+		if (fetchPlan == OrderFetchPlan.SUMMARY) {
+			return orderRepository.findByOrderStatus(orderStatus);
+		}
+
+		return withChargeLines(orderRepository.findDistinctWithLinesByOrderStatus(orderStatus));
 	}
 
 	/*
@@ -110,10 +176,24 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 	 */
 	@Override
 	public Streamable<T> findBy(UserAccount userAccount) {
+		return findBy(userAccount, OrderFetchPlan.SUMMARY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findBy(org.salespointframework.useraccount.UserAccount, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(UserAccount userAccount, OrderFetchPlan fetchPlan) {
 
 		Assert.notNull(userAccount, "UserAccount must not be null");
+		Assert.notNull(fetchPlan, "OrderFetchPlan must not be null!");
+
+		if (fetchPlan == OrderFetchPlan.SUMMARY) {
+			return orderRepository.findByUserAccount(userAccount);
+		}
 
-		return orderRepository.findByUserAccount(userAccount);
+		return withChargeLines(orderRepository.findDistinctWithLinesByUserAccount(userAccount));
 	}
 
 	/*
@@ -122,11 +202,29 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 	 */
 	@Override
 	public Streamable<T> findBy(UserAccount userAccount, Interval interval) {
+		return findBy(userAccount, interval, OrderFetchPlan.SUMMARY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findBy(org.salespointframework.useraccount.UserAccount, org.salespointframework.time.Interval, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(UserAccount userAccount, Interval interval, OrderFetchPlan fetchPlan) {
 
 		Assert.notNull(userAccount, "UserAccount must not be null");
 		Assert.notNull(interval, "Interval must not be null!");
+		Assert.notNull(fetchPlan, "OrderFetchPlan must not be null!");
+
+		var start = interval.getStart();
+		var end = interval.getEnd();
 
-		return orderRepository.findByUserAccountAndDateCreatedBetween(userAccount, interval.getStart(), interval.getEnd());
+		if (fetchPlan == OrderFetchPlan.SUMMARY) {
+			return orderRepository.findByUserAccountAndDateCreatedBetween(userAccount, start, end);
+		}
+
+		return withChargeLines(
+				orderRepository.findDistinctWithLinesByUserAccountAndDateCreatedBetween(userAccount, start, end));
 	}
 
 	/*
@@ -203,4 +301,53 @@ class PersistentOrderManager<T extends Order> implements OrderManager<T> {
 	public Page<T> findAll(Pageable pageable) {
 		return orderRepository.findAll(pageable);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findSlice(int)
+	 */
+	@Override
+	public KeysetSlice<T> findSlice(int size) {
+
+		Assert.isTrue(size > 0, "Size must be greater than zero!");
+
+		return new KeysetSlice<>(orderRepository.findSlice(PageRequest.of(0, size)), PersistentOrderManager::toToken);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManager#findSlice(org.salespointframework.core.ContinuationToken, int)
+	 */
+	@Override
+	public KeysetSlice<T> findSlice(ContinuationToken token, int size) {
+
+		Assert.notNull(token, "ContinuationToken must not be null!");
+		Assert.isTrue(size > 0, "Size must be greater than zero!");
+
+		var slice = orderRepository.findSliceAfter(token.getDate(), token.getIdentifier(), PageRequest.of(0, size));
+
+		return new KeysetSlice<>(slice, PersistentOrderManager::toToken);
+	}
+
+	private static ContinuationToken toToken(Order order) {
+		return ContinuationToken.of(order.getDateCreated(), order.getId());
+	}
+
+	/**
+	 * Initializes the {@link ChargeLine}s of all given {@link Order}s with one query per type of {@link ChargeLine}.
+	 *
+	 * @param orders must not be {@literal null}.
+	 * @return the given {@link Order}s.
+	 */
+	private Streamable<T> withChargeLines(Streamable<T> orders) {
+
+		var identifiers = orders.map(Order::getId).toList();
+
+		if (!identifiers.isEmpty()) {
+			orderRepository.fetchChargeLines(identifiers);
+			orderRepository.fetchAttachedChargeLines(identifiers);
+		}
+
+		return orders;
+	}
 }
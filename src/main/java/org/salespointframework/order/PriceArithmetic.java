@@ -0,0 +1,269 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.core.MoneySum;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.util.Streamable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Arithmetic for prices and totals in the order package. If enabled via {@code salespoint.order.enable-fast-money},
+ * {@link Money} amounts with up to {@value #MAX_SCALE} decimal places are calculated in scaled {@code long}
+ * arithmetic. Falls back to {@link Money} arithmetic for other amounts, mixed currencies, on overflow or if a result
+ * exceeds {@value #MAX_DIGITS} digits, i.e. the precision of {@link Money}'s default {@link java.math.MathContext}, so
+ * that the results are always equal to the ones calculated by {@link Money}. As the entities using it are not managed
+ * by Spring, they can't look up the mode of the application context they're used in. Thus, each application context
+ * enabling the mode registers with the class and deregisters once it's closed, and the scaled arithmetic is used as
+ * long as any of them is active. As the results are equal in both modes, application contexts not enabling it are
+ * not affected by others that do, except for the performance of the calculations.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+class PriceArithmetic implements DisposableBean {
+
+	private static final int MAX_SCALE = 4;
+	private static final int MAX_DIGITS = 16;
+	private static final long MAX_UNSCALED = 9_999_999_999_999_999L;
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L };
+
+	private static final AtomicInteger ENABLED_CONTEXTS = new AtomicInteger();
+
+	private final AtomicBoolean registered;
+
+	/**
+	 * Creates a new {@link PriceArithmetic} for the given {@link OrderProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	PriceArithmetic(OrderProperties properties) {
+
+		Assert.notNull(properties, "OrderProperties must not be null!");
+
+		this.registered = new AtomicBoolean(properties.isEnableFastMoney());
+
+		if (registered.get()) {
+			ENABLED_CONTEXTS.incrementAndGet();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (registered.compareAndSet(true, false)) {
+			ENABLED_CONTEXTS.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns whether scaled {@code long} arithmetic is enabled, i.e. whether any active application context enabled
+	 * it.
+	 *
+	 * @return
+	 */
+	static boolean isEnabled() {
+		return ENABLED_CONTEXTS.get() > 0;
+	}
+
+	/**
+	 * Multiplies the given price with the given factor.
+	 *
+	 * @param price must not be {@literal null}.
+	 * @param factor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static MonetaryAmount multiply(MonetaryAmount price, BigDecimal factor) {
+		return isEnabled() ? multiplyScaled(price, factor) : price.multiply(factor);
+	}
+
+	/**
+	 * Adds the given {@link MonetaryAmount}s.
+	 *
+	 * @param left must not be {@literal null}.
+	 * @param right must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static MonetaryAmount add(MonetaryAmount left, MonetaryAmount right) {
+		return isEnabled() ? addScaled(left, right, false) : left.add(right);
+	}
+
+	/**
+	 * Subtracts the given right {@link MonetaryAmount} from the left one.
+	 *
+	 * @param left must not be {@literal null}.
+	 * @param right must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static MonetaryAmount subtract(MonetaryAmount left, MonetaryAmount right) {
+		return isEnabled() ? addScaled(left, right, true) : left.subtract(right);
+	}
+
+	/**
+	 * Sums up the prices of the given {@link Priced} instances.
+	 *
+	 * @param priced must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static MonetaryAmount sum(Iterable<? extends Priced> priced) {
+		return isEnabled() ? sumScaled(priced) : sumMoney(priced);
+	}
+
+	static MonetaryAmount multiplyScaled(MonetaryAmount price, BigDecimal factor) {
+
+		if (!isScalable(price) || factor.scale() < 0) {
+			return price.multiply(factor);
+		}
+
+		var number = toBigDecimal(price);
+		var scale = number.scale() + factor.scale();
+
+		if (scale > MAX_SCALE || factor.precision() > MAX_DIGITS) {
+			return price.multiply(factor);
+		}
+
+		try {
+
+			var result = Math.multiplyExact(number.unscaledValue().longValue(), factor.unscaledValue().longValue());
+
+			return isWithinPrecision(result) ? create(price, result, scale) : price.multiply(factor);
+
+		} catch (ArithmeticException o_O) {
+			return price.multiply(factor);
+		}
+	}
+
+	static MonetaryAmount addScaled(MonetaryAmount left, MonetaryAmount right, boolean subtract) {
+
+		if (!isScalable(left) || !isScalable(right) || !left.getCurrency().equals(right.getCurrency())) {
+			return subtract ? left.subtract(right) : left.add(right);
+		}
+
+		var leftNumber = toBigDecimal(left);
+		var rightNumber = toBigDecimal(right);
+		var scale = Math.max(leftNumber.scale(), rightNumber.scale());
+
+		try {
+
+			var augend = align(rightNumber, scale);
+			var result = Math.addExact(align(leftNumber, scale), subtract ? Math.negateExact(augend) : augend);
+
+			if (isWithinPrecision(result)) {
+				return create(left, result, scale);
+			}
+
+		} catch (ArithmeticException o_O) {}
+
+		return subtract ? left.subtract(right) : left.add(right);
+	}
+
+	static MonetaryAmount sumScaled(Iterable<? extends Priced> priced) {
+
+		MonetaryAmount template = null;
+		long total = 0;
+		int scale = 0;
+
+		try {
+
+			for (Priced element : priced) {
+
+				var price = element.getPrice();
+
+				if (!isScalable(price) || template != null && !template.getCurrency().equals(price.getCurrency())) {
+					return sumMoney(priced);
+				}
+
+				if (template == null) {
+					template = price;
+				}
+
+				var number = toBigDecimal(price);
+
+				if (number.scale() > scale) {
+					total = Math.multiplyExact(total, POWERS_OF_TEN[number.scale() - scale]);
+					scale = number.scale();
+				}
+
+				total = Math.addExact(total, align(number, scale));
+
+				if (!isWithinPrecision(total)) {
+					return sumMoney(priced);
+				}
+			}
+
+		} catch (ArithmeticException o_O) {
+			return sumMoney(priced);
+		}
+
+		return template == null ? Currencies.ZERO_EURO : create(template, total, scale);
+	}
+
+	static MonetaryAmount sumMoney(Iterable<? extends Priced> priced) {
+
+		return Streamable.of(priced).stream()//
+				.map(Priced::getPrice)//
+				.collect(MoneySum.summing()) //
+				.orElse(Currencies.ZERO_EURO);
+	}
+
+	/**
+	 * Returns whether the given {@link MonetaryAmount} is a {@link Money} instance that can be represented as scaled
+	 * {@code long}.
+	 *
+	 * @param amount must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isScalable(MonetaryAmount amount) {
+
+		if (!(amount instanceof Money)) {
+			return false;
+		}
+
+		var number = toBigDecimal(amount);
+
+		return number.scale() >= 0 && number.scale() <= MAX_SCALE && number.precision() <= MAX_DIGITS;
+	}
+
+	private static BigDecimal toBigDecimal(MonetaryAmount amount) {
+		return amount.getNumber().numberValue(BigDecimal.class);
+	}
+
+	private static long align(BigDecimal number, int scale) {
+		return Math.multiplyExact(number.unscaledValue().longValue(), POWERS_OF_TEN[scale - number.scale()]);
+	}
+
+	private static boolean isWithinPrecision(long unscaled) {
+		return unscaled >= -MAX_UNSCALED && unscaled <= MAX_UNSCALED;
+	}
+
+	private static MonetaryAmount create(MonetaryAmount template, long unscaled, int scale) {
+		return Money.of(BigDecimal.valueOf(unscaled, scale), template.getCurrency(), template.getContext());
+	}
+}
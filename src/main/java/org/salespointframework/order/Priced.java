@@ -17,8 +17,6 @@ package org.salespointframework.order;
 
 import javax.money.MonetaryAmount;
 
-import org.salespointframework.core.Currencies;
-import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
 /**
@@ -45,9 +43,6 @@ interface Priced {
 
 		Assert.notNull(priced, "Iterable must not be null!");
 
-		return Streamable.of(priced).stream()//
-				.map(Priced::getPrice)//
-				.reduce((left, right) -> left.add(right)) //
-				.orElse(Currencies.ZERO_EURO);
+		return PriceArithmetic.sum(priced);
 	}
 }
@@ -19,8 +19,12 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +38,25 @@ public enum Metric {
 
 	SQUARE_METER("m²", "m2"), METER("m"), KILOGRAM("kg"), LITER("l"), UNIT("");
 
+	private static final String[] LOOKUP_ABBREVIATIONS;
+	private static final Metric[] LOOKUP_METRICS;
+	private static final Map<String, Metric> BY_ABBREVIATION;
+
+	static {
+
+		var lookup = new LinkedHashMap<String, Metric>();
+
+		// First Metric declared wins in case of duplicate abbreviations
+		for (Metric metric : values()) {
+			lookup.putIfAbsent(metric.abbreviation, metric);
+			metric.abbreviations.forEach(it -> lookup.putIfAbsent(it, metric));
+		}
+
+		BY_ABBREVIATION = Collections.unmodifiableMap(lookup);
+		LOOKUP_ABBREVIATIONS = lookup.keySet().toArray(new String[0]);
+		LOOKUP_METRICS = lookup.values().toArray(new Metric[0]);
+	}
+
 	private final String abbreviation;
 	private final List<String> abbreviations;
 
@@ -77,11 +100,38 @@ public enum Metric {
 
 		Assert.notNull(abbreviation, "Abbreviation source must not be null!");
 
-		String source = abbreviation.trim();
+		Metric metric = BY_ABBREVIATION.get(abbreviation.trim());
+
+		if (metric == null) {
+			throw new IllegalArgumentException(String.format("Unsupported abbreviation %s!", abbreviation));
+		}
+
+		return metric;
+	}
+
+	/**
+	 * Returns the {@link Metric} for the abbreviation contained in the given region of the given source without
+	 * extracting it into a dedicated {@link String}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param start the index of the first character of the abbreviation.
+	 * @param end the index after the last character of the abbreviation.
+	 * @return the {@link Metric} found or {@literal null} if the abbreviation is not supported.
+	 */
+	@Nullable
+	static Metric from(String source, int start, int end) {
+
+		int length = end - start;
+
+		for (int i = 0; i < LOOKUP_ABBREVIATIONS.length; i++) {
+
+			String candidate = LOOKUP_ABBREVIATIONS[i];
+
+			if (candidate.length() == length && source.regionMatches(start, candidate, 0, length)) {
+				return LOOKUP_METRICS[i];
+			}
+		}
 
-		return Arrays.stream(Metric.values()) //
-				.filter(it -> it.abbreviation.equals(source) || it.abbreviations.contains(source)) //
-				.findFirst() //
-				.orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported abbreviation %s!", abbreviation)));
+		return null;
 	}
 }
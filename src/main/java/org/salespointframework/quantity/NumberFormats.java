@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.quantity;
+
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches {@link NumberFormat} and {@link DecimalFormatSymbols} instances per {@link Locale} to avoid creating them
+ * whenever a {@link Quantity} is printed or parsed. As {@link NumberFormat} is not thread-safe, the cached instances
+ * are confined to the thread using them.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+class NumberFormats {
+
+	private static final Map<Locale, ThreadLocal<CachedFormat>> FORMATS = new ConcurrentHashMap<>();
+	private static final Map<Locale, DecimalFormatSymbols> SYMBOLS = new ConcurrentHashMap<>();
+
+	private NumberFormats() {}
+
+	/**
+	 * Returns the {@link NumberFormat} for the given {@link Locale} configured to print at least the given number of
+	 * fraction digits. The instance is bound to the current thread, i.e. it must neither be handed to other threads nor
+	 * be held on to.
+	 *
+	 * @param locale must not be {@literal null}.
+	 * @param minimumFractionDigits the minimum number of fraction digits, the {@link Locale}'s default is used if it's
+	 *          greater than the given one.
+	 * @return will never be {@literal null}.
+	 */
+	static NumberFormat getFormat(Locale locale, int minimumFractionDigits) {
+
+		return FORMATS.computeIfAbsent(locale, it -> ThreadLocal.withInitial(() -> new CachedFormat(it))) //
+				.get() //
+				.withMinimumFractionDigits(minimumFractionDigits);
+	}
+
+	/**
+	 * Returns the {@link DecimalFormatSymbols} for the given {@link Locale}. The instance is shared and must not be
+	 * modified.
+	 *
+	 * @param locale must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static DecimalFormatSymbols getSymbols(Locale locale) {
+		return SYMBOLS.computeIfAbsent(locale, DecimalFormatSymbols::getInstance);
+	}
+
+	/**
+	 * A {@link NumberFormat} alongside its original fraction digit settings so that they can be restored before reuse.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class CachedFormat {
+
+		private final NumberFormat format;
+		private final int minimumFractionDigits, maximumFractionDigits;
+
+		CachedFormat(Locale locale) {
+
+			this.format = NumberFormat.getInstance(locale);
+			this.minimumFractionDigits = format.getMinimumFractionDigits();
+			this.maximumFractionDigits = format.getMaximumFractionDigits();
+		}
+
+		NumberFormat withMinimumFractionDigits(int digits) {
+
+			format.setMaximumFractionDigits(Math.max(maximumFractionDigits, digits));
+			format.setMinimumFractionDigits(Math.max(minimumFractionDigits, digits));
+
+			return format;
+		}
+	}
+}
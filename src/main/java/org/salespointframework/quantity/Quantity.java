@@ -16,14 +16,13 @@
 package org.salespointframework.quantity;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.Objects;
 
 import javax.persistence.Access;
 import javax.persistence.AccessType;
@@ -31,29 +30,40 @@ import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.Transient;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
- * A value object to represent a quantity.
+ * A value object to represent a quantity. Whole-number quantities of {@link Metric#UNIT} are represented by a plain
+ * {@code long} internally so that arithmetic and comparisons between them do not need to allocate {@link BigDecimal}
+ * instances. As the persistence provider writes into embedded values when merging entities, {@link Quantity} instances
+ * are never shared. Only the immutable {@link BigDecimal} amounts of small whole-number quantities of other metrics
+ * are.
  *
  * @author Oliver Gierke
  * @author Martin Morgenstern
  */
 @Embeddable
-@EqualsAndHashCode
 @NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Access(AccessType.PROPERTY)
 public class Quantity {
 
-	public static final Quantity NONE = Quantity.of(0);
+	public static final Quantity NONE = new Quantity(0);
 	private static final String INCOMPATIBLE = "Quantity %s is incompatible to quantity %s!";
+	private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+	private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 127;
 
 	/**
-	 * The amount of the Quantity. Explicitly set a prefixed column name to avoid name conflicts.
+	 * The amount of the Quantity in case it cannot be represented by {@link #units}, {@literal null} otherwise.
 	 */
-	@Getter(onMethod = @__(@Column(name = "quantity_amount"))) //
-	private @NonNull BigDecimal amount;
+	private @Nullable BigDecimal amount;
+
+	/**
+	 * The amount of whole-number {@link Metric#UNIT} quantities. Only considered if {@link #amount} is {@literal null}.
+	 */
+	private long units;
 
 	/**
 	 * The metric of the Quantity. Explicitly set a prefixed column name to avoid name conflicts.
@@ -61,6 +71,20 @@ public class Quantity {
 	@Getter(onMethod = @__(@Column(name = "quantity_metric"))) //
 	private @NonNull Metric metric;
 
+	private Quantity(@NonNull BigDecimal amount, @NonNull Metric metric) {
+
+		this.metric = metric;
+		this.amount = amount;
+
+		compactIfPossible();
+	}
+
+	private Quantity(long units) {
+
+		this.metric = Metric.UNIT;
+		this.units = units;
+	}
+
 	/**
 	 * Creates a new {@link Quantity} of the given amount. Defaults the metric to {@value Metric#UNIT}.
 	 *
@@ -89,7 +113,8 @@ public class Quantity {
 	 * @return
 	 */
 	public static Quantity of(long amount, Metric metric) {
-		return new Quantity(BigDecimal.valueOf(amount), metric);
+
+		return Metric.UNIT == metric ? new Quantity(amount) : new Quantity(Amounts.valueOf(amount), metric);
 	}
 
 	/**
@@ -150,7 +175,17 @@ public class Quantity {
 
 		assertCompatibility(other);
 
-		return new Quantity(this.amount.add(other.amount), this.metric);
+		if (isCompact(other)) {
+
+			var result = this.units + other.units;
+
+			// Overflow if both operands have a sign different from the result's
+			if (((this.units ^ result) & (other.units ^ result)) >= 0) {
+				return of(result, Metric.UNIT);
+			}
+		}
+
+		return of(toBigDecimal().add(other.toBigDecimal()), this.metric);
 	}
 
 	/**
@@ -173,7 +208,17 @@ public class Quantity {
 
 		assertCompatibility(other);
 
-		return new Quantity(this.amount.subtract(other.amount), this.metric);
+		if (isCompact(other)) {
+
+			var result = this.units - other.units;
+
+			// Overflow if the operands have different signs and the result's differs from the minuend's
+			if (((this.units ^ other.units) & (this.units ^ result)) >= 0) {
+				return of(result, Metric.UNIT);
+			}
+		}
+
+		return of(toBigDecimal().subtract(other.toBigDecimal()), this.metric);
 	}
 
 	/**
@@ -187,7 +232,7 @@ public class Quantity {
 	public boolean isLessThan(Quantity other) {
 
 		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) < 0;
+		return compareAmountTo(other) < 0;
 	}
 
 	/**
@@ -207,7 +252,19 @@ public class Quantity {
 	 * @return will never be {@literal null}.
 	 */
 	public Quantity times(long multiplier) {
-		return new Quantity(amount.multiply(BigDecimal.valueOf(multiplier)), metric);
+
+		if (amount == null) {
+
+			var high = Math.multiplyHigh(units, multiplier);
+			var result = units * multiplier;
+
+			// No overflow if the upper 64 bits of the 128-bit product only carry the sign of the lower ones
+			if (high == (result >> 63)) {
+				return of(result, Metric.UNIT);
+			}
+		}
+
+		return of(toBigDecimal().multiply(BigDecimal.valueOf(multiplier)), metric);
 	}
 
 	/**
@@ -223,7 +280,7 @@ public class Quantity {
 		Assert.notNull(other, "Quantity must not be null!");
 
 		return metric.isCompatibleWith(other.metric) //
-				&& this.amount.compareTo(other.amount) == 0;
+				&& compareAmountTo(other) == 0;
 	}
 
 	/**
@@ -237,7 +294,7 @@ public class Quantity {
 	public boolean isGreaterThan(Quantity other) {
 
 		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) > 0;
+		return compareAmountTo(other) > 0;
 	}
 
 	/**
@@ -251,7 +308,7 @@ public class Quantity {
 	public boolean isGreaterThanOrEqualTo(Quantity other) {
 
 		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) >= 0;
+		return compareAmountTo(other) >= 0;
 	}
 
 	/**
@@ -261,7 +318,7 @@ public class Quantity {
 	 */
 	@Transient
 	public boolean isNegative() {
-		return this.amount.compareTo(BigDecimal.ZERO) < 0;
+		return signum() < 0;
 	}
 
 	/**
@@ -271,7 +328,7 @@ public class Quantity {
 	 */
 	@Transient
 	public boolean isZeroOrNegative() {
-		return !isGreaterThan(toZero());
+		return signum() <= 0;
 	}
 
 	/**
@@ -283,6 +340,71 @@ public class Quantity {
 		return Quantity.of(0, metric);
 	}
 
+	/**
+	 * Returns the amount of the {@link Quantity}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@Column(name = "quantity_amount")
+	public BigDecimal getAmount() {
+		return toBigDecimal();
+	}
+
+	private BigDecimal toBigDecimal() {
+		return amount == null ? BigDecimal.valueOf(units) : amount;
+	}
+
+	/**
+	 * Returns whether both the current and the given {@link Quantity} use the compact {@code long} representation.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isCompact(Quantity other) {
+		return this.amount == null && other.amount == null;
+	}
+
+	private int compareAmountTo(Quantity other) {
+
+		return isCompact(other) //
+				? Long.compare(this.units, other.units) //
+				: toBigDecimal().compareTo(other.toBigDecimal());
+	}
+
+	private int signum() {
+		return amount == null ? Long.signum(units) : amount.signum();
+	}
+
+	/**
+	 * Switches to the compact {@code long} representation in case the {@link Quantity} is a whole-number
+	 * {@link Metric#UNIT} one, i.e. the {@link BigDecimal} amount has a scale of zero and fits into a {@code long}.
+	 */
+	private void compactIfPossible() {
+
+		if (amount == null || Metric.UNIT != metric || amount.scale() != 0 //
+				|| amount.compareTo(LONG_MIN) < 0 || amount.compareTo(LONG_MAX) > 0) {
+			return;
+		}
+
+		this.units = amount.longValue();
+		this.amount = null;
+	}
+
+	/**
+	 * Adds the amount of the current {@link Quantity} to the given {@link QuantitySum} without materializing a
+	 * {@link BigDecimal} for compact ones.
+	 *
+	 * @param sum must not be {@literal null}.
+	 */
+	void addTo(QuantitySum sum) {
+
+		if (amount == null) {
+			sum.addUnits(units);
+		} else {
+			sum.addDecimal(amount);
+		}
+	}
+
 	private void assertCompatibility(Quantity quantity) {
 
 		Assert.notNull(quantity, "Quantity must not be null!");
@@ -305,6 +427,8 @@ public class Quantity {
 		if (amount != null && Metric.UNIT == metric) {
 			this.amount = BigDecimal.valueOf(amount.longValue());
 		}
+
+		compactIfPossible();
 	}
 
 	void setAmount(BigDecimal amount) {
@@ -314,6 +438,41 @@ public class Quantity {
 		if (Metric.UNIT == this.metric) {
 			this.amount = BigDecimal.valueOf(amount.longValue());
 		}
+
+		compactIfPossible();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Quantity)) {
+			return false;
+		}
+
+		var that = (Quantity) obj;
+
+		return Objects.equals(this.metric, that.metric) //
+				&& (isCompact(that) ? this.units == that.units : this.toBigDecimal().equals(that.toBigDecimal()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = amount == null ? Long.hashCode(units) : amount.hashCode();
+
+		return 31 * result + Objects.hashCode(metric);
 	}
 
 	/*
@@ -322,10 +481,59 @@ public class Quantity {
 	 */
 	@Override
 	public String toString() {
+		return format(Locale.getDefault(Locale.Category.FORMAT), true);
+	}
+
+	/**
+	 * Formats the {@link Quantity} for the given {@link Locale} using a cached {@link java.text.NumberFormat}.
+	 *
+	 * @param locale must not be {@literal null}.
+	 * @param retainScale whether to print all fraction digits of the amount even if they exceed the {@link Locale}'s
+	 *          default.
+	 * @return
+	 */
+	String format(Locale locale, boolean retainScale) {
 
-		DecimalFormat format = new DecimalFormat();
-		format.setMinimumFractionDigits(amount.scale());
+		var abbreviation = metric.getAbbreviation();
 
-		return format.format(amount).concat(metric.getAbbreviation());
+		if (amount == null) {
+			return NumberFormats.getFormat(locale, 0).format(units).concat(abbreviation);
+		}
+
+		return NumberFormats.getFormat(locale, retainScale ? amount.scale() : 0).format(amount).concat(abbreviation);
+	}
+
+	/**
+	 * Shared {@link BigDecimal} amounts for small whole-number quantities of metrics other than {@link Metric#UNIT},
+	 * similar to the cache backing {@link Integer#valueOf(int)}. As {@link BigDecimal}s are immutable, they can be shared
+	 * safely, other than the {@link Quantity} instances themselves.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	private static class Amounts {
+
+		private static final BigDecimal[] INSTANCES = new BigDecimal[CACHE_HIGH - CACHE_LOW + 1];
+
+		static {
+
+			for (int i = 0; i < INSTANCES.length; i++) {
+				INSTANCES[i] = BigDecimal.valueOf(CACHE_LOW + i);
+			}
+		}
+
+		/**
+		 * Returns the {@link BigDecimal} for the given amount, shared if it is between {@value Quantity#CACHE_LOW} and
+		 * {@value Quantity#CACHE_HIGH}.
+		 *
+		 * @param amount
+		 * @return will never be {@literal null}.
+		 */
+		static BigDecimal valueOf(long amount) {
+
+			return amount >= CACHE_LOW && amount <= CACHE_HIGH //
+					? INSTANCES[(int) amount - CACHE_LOW] //
+					: BigDecimal.valueOf(amount);
+		}
 	}
 }
@@ -18,9 +18,6 @@ package org.salespointframework.quantity;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.Locale;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.format.Formatter;
 import org.springframework.format.number.NumberStyleFormatter;
@@ -28,8 +25,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 /**
- * A dedicated Spring {@link Formatter} to print and parse {@link Quantity} instances. Uses a
- * {@link NumberStyleFormatter} for parsing of the amount.
+ * A dedicated Spring {@link Formatter} to print and parse {@link Quantity} instances. Quantities are parsed by a
+ * hand-written parser for the grammar {@code [+-]?\d*[\.\,]?\d*\s*\w*}, i.e. an optional sign, digits with an optional
+ * decimal or grouping separator in between and an optional {@link Metric} abbreviation. Amounts with more digits than
+ * fit into a {@code long} are parsed using a {@link NumberStyleFormatter}.
  * 
  * @author Oliver Gierke
  * @see NumberStyleFormatter
@@ -39,24 +38,8 @@ import org.springframework.util.StringUtils;
 @Component
 class QuantityFormatter implements Formatter<Quantity> {
 
-	private static final Pattern QUANTITY_PATTERN;
 	private static final NumberStyleFormatter NUMBER_FORMATTER = new NumberStyleFormatter();
-
-	static {
-
-		StringBuilder builder = new StringBuilder();
-
-		builder.append("("); // group 1 start
-		builder.append("[+-]?"); // optional sign
-		builder.append("\\d*[\\.\\,]?\\d*"); // decimals with . or , in between
-		builder.append(")"); // group 1 end
-
-		builder.append("("); // group 2 start
-		builder.append("\\s*\\w*"); // any kind of text as metric source
-		builder.append(")"); // group 2 end;
-
-		QUANTITY_PATTERN = Pattern.compile(builder.toString());
-	}
+	private static final int MAX_LONG_DIGITS = 18;
 
 	/* 
 	 * (non-Javadoc)
@@ -64,9 +47,7 @@ class QuantityFormatter implements Formatter<Quantity> {
 	 */
 	@Override
 	public String print(Quantity object, Locale locale) {
-
-		return String.format("%s%s", NUMBER_FORMATTER.print(object.getAmount(), locale),
-				object.getMetric().getAbbreviation());
+		return object.format(locale, false);
 	}
 
 	/* 
@@ -80,15 +61,120 @@ class QuantityFormatter implements Formatter<Quantity> {
 			return Quantity.of(0);
 		}
 
-		Matcher matcher = QUANTITY_PATTERN.matcher(text.trim());
+		int start = 0, end = text.length();
+
+		// Equivalent to String.trim() without creating a new String
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		// Amount: [+-]?\d*[\.\,]?\d*
+
+		int index = start;
+		char sign = start < end ? text.charAt(start) : ' ';
+
+		if (sign == '+' || sign == '-') {
+			index++;
+		}
+
+		long unscaled = 0;
+		int digits = 0, digitsBeforeSeparator = 0, separatorIndex = -1;
+
+		for (; index < end; index++) {
+
+			char c = text.charAt(index);
+
+			if (c >= '0' && c <= '9') {
+
+				unscaled = unscaled * 10 + (c - '0');
+				digits++;
+
+			} else if ((c == '.' || c == ',') && separatorIndex < 0) {
+
+				separatorIndex = index;
+				digitsBeforeSeparator = digits;
+
+			} else {
+				break;
+			}
+		}
+
+		int amountEnd = index;
+
+		// Metric: \s*\w*
+
+		while (index < end && isWhitespace(text.charAt(index))) {
+			index++;
+		}
+
+		int metricStart = index;
 
-		if (!matcher.matches()) {
+		while (index < end && isWordCharacter(text.charAt(index))) {
+			index++;
+		}
+
+		if (index != end) {
 			throw new ParseException(text, 0);
 		}
 
-		Metric metric = parseMetric(matcher.group(2), o_O -> new ParseException(matcher.group(2), matcher.start(2)));
+		Metric metric = metricStart == end ? Metric.UNIT : Metric.from(text, metricStart, end);
+
+		if (metric == null) {
+			throw new ParseException(text.substring(amountEnd, end), amountEnd - start);
+		}
+
+		if (digits > MAX_LONG_DIGITS) {
+			return parseAmount(text.substring(start, amountEnd), metric, locale);
+		}
+
+		int scale = 0;
+
+		if (separatorIndex >= 0) {
 
-		Number number = NUMBER_FORMATTER.parse(matcher.group(1), locale);
+			var symbols = NumberFormats.getSymbols(locale);
+			char separator = text.charAt(separatorIndex);
+
+			if (separator == symbols.getDecimalSeparator()) {
+
+				scale = digits - digitsBeforeSeparator;
+
+			} else if (separator != symbols.getGroupingSeparator() || digits == digitsBeforeSeparator) {
+
+				// Neither decimal nor grouping separator or grouping separator not followed by digits
+				throw new ParseException(text.substring(start, amountEnd), //
+						digitsBeforeSeparator == 0 ? 0 : separatorIndex - start);
+			}
+		}
+
+		if (sign == '+' || digits == 0) {
+			throw new ParseException(text.substring(start, amountEnd), 0);
+		}
+
+		if (sign == '-') {
+			unscaled = -unscaled;
+		}
+
+		return scale == 0 //
+				? Quantity.of(unscaled, metric) //
+				: Quantity.of(BigDecimal.valueOf(unscaled, scale), metric);
+	}
+
+	/**
+	 * Parses the given amount source using a {@link NumberStyleFormatter}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param metric must not be {@literal null}.
+	 * @param locale must not be {@literal null}.
+	 * @return
+	 * @throws ParseException
+	 */
+	private static Quantity parseAmount(String source, Metric metric, Locale locale) throws ParseException {
+
+		Number number = NUMBER_FORMATTER.parse(source, locale);
 
 		return number instanceof BigDecimal //
 				? Quantity.of((BigDecimal) number, metric) //
@@ -96,21 +182,22 @@ class QuantityFormatter implements Formatter<Quantity> {
 	}
 
 	/**
-	 * Tries to create a {@link Metric} from the given source and reports invalid attempts as {@link ParseException}
-	 * applying the given exception mapper.
-	 * 
-	 * @param source the source value that symbolizes the {@link Metric}
-	 * @param index the index at which the metric part was
+	 * Returns whether the given character is a whitespace character as defined by {@code \s} in regular expressions.
+	 *
+	 * @param c
 	 * @return
-	 * @throws ParseException in case the creation of a {@link Metric} fails for the given source.
 	 */
-	private static Metric parseMetric(String source, Function<IllegalArgumentException, ParseException> exceptionMapper)
-			throws ParseException {
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\013' || c == '\f' || c == '\r';
+	}
 
-		try {
-			return StringUtils.hasText(source) ? Metric.from(source) : Metric.UNIT;
-		} catch (IllegalArgumentException o_O) {
-			throw exceptionMapper.apply(o_O);
-		}
+	/**
+	 * Returns whether the given character is a word character as defined by {@code \w} in regular expressions.
+	 *
+	 * @param c
+	 * @return
+	 */
+	private static boolean isWordCharacter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
 	}
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.quantity;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A mutable accumulator to sum up {@link Quantity} instances without creating an intermediate {@link Quantity} per
+ * element. Whole-number {@link Metric#UNIT} quantities are summed up in a primitive {@code long}, all others in a
+ * {@link BigDecimal}. Follows the semantics of reducing the {@link Quantity} instances using
+ * {@link Quantity#add(Quantity)}, i.e. {@link Quantity#NONE} is compatible with all other {@link Quantity} instances.
+ * Not thread-safe, use {@link #summing()} to sum up parallel {@link java.util.stream.Stream}s.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+public final class QuantitySum {
+
+	private static final String INCOMPATIBLE = "Quantity of metric %s is incompatible to sum of metric %s!";
+
+	private boolean empty = true;
+	private @Nullable Metric metric;
+	private long units;
+	private @Nullable BigDecimal decimal;
+
+	/**
+	 * Returns a {@link Collector} to sum up {@link Quantity} instances, returning {@link Optional#empty()} for empty
+	 * sources, just like {@link java.util.stream.Stream#reduce(java.util.function.BinaryOperator)} would.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static Collector<Quantity, QuantitySum, Optional<Quantity>> summing() {
+		return Collector.of(QuantitySum::new, QuantitySum::add, QuantitySum::combine, QuantitySum::toQuantity);
+	}
+
+	/**
+	 * Adds the given {@link Quantity} to the sum.
+	 *
+	 * @param quantity must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws MetricMismatchException in case the given {@link Quantity} is not compatible with the ones added before.
+	 */
+	public QuantitySum add(Quantity quantity) {
+
+		Assert.notNull(quantity, "Quantity must not be null!");
+
+		this.empty = false;
+
+		if (quantity == Quantity.NONE) {
+			return this;
+		}
+
+		assertCompatibility(quantity.getMetric());
+		quantity.addTo(this);
+
+		return this;
+	}
+
+	/**
+	 * Adds the given {@link QuantitySum} to the current one.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the current instance.
+	 * @throws MetricMismatchException in case the given sum's {@link Metric} is not compatible with the current one.
+	 */
+	public QuantitySum combine(QuantitySum other) {
+
+		Assert.notNull(other, "QuantitySum must not be null!");
+
+		this.empty &= other.empty;
+
+		if (other.metric == null) {
+			return this;
+		}
+
+		assertCompatibility(other.metric);
+		addUnits(other.units);
+
+		if (other.decimal != null) {
+			addDecimal(other.decimal);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link Quantity} summed up so far.
+	 *
+	 * @return {@link Optional#empty()} in case no {@link Quantity} has been added, {@link Quantity#NONE} in case only
+	 *         {@link Quantity#NONE} has been added.
+	 */
+	public Optional<Quantity> toQuantity() {
+
+		if (empty) {
+			return Optional.empty();
+		}
+
+		var metric = this.metric;
+
+		if (metric == null) {
+			return Optional.of(Quantity.NONE);
+		}
+
+		return Optional.of(decimal == null //
+				? Quantity.of(units, metric) //
+				: Quantity.of(decimal.add(BigDecimal.valueOf(units)), metric));
+	}
+
+	void addUnits(long units) {
+
+		var result = this.units + units;
+
+		// Overflow if both operands have a sign different from the result's
+		if (((this.units ^ result) & (units ^ result)) < 0) {
+			addDecimal(BigDecimal.valueOf(units));
+		} else {
+			this.units = result;
+		}
+	}
+
+	void addDecimal(BigDecimal amount) {
+		this.decimal = decimal == null ? amount : decimal.add(amount);
+	}
+
+	private void assertCompatibility(Metric metric) {
+
+		var current = this.metric;
+
+		if (current == null) {
+			this.metric = metric;
+		} else if (!current.isCompatibleWith(metric)) {
+			throw new MetricMismatchException(String.format(INCOMPATIBLE, metric, current), current, metric);
+		}
+	}
+}
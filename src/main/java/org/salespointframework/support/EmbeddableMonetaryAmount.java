@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+import javax.money.MonetaryAmount;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.Transient;
+
+import org.javamoney.moneta.Money;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Embeddable} to persist a {@link MonetaryAmount} as numeric amount and currency code in two separate
+ * columns, so that the database can sum, sort and filter by them. Values that were persisted as {@link String} by
+ * {@link MonetaryAmountAttributeConverter} can be mapped to the {@code legacy} column. Those rows are migrated in bulk
+ * on application startup by {@link EmbeddableMonetaryAmountMigration}. In case the numeric columns are still not
+ * populated when loading a row, the legacy value is parsed and transferred to them, so that the row is migrated once
+ * the owning entity is flushed within a transaction.
+ * <p>
+ * Entities usually override the column names for all three properties:
+ *
+ * <pre class="code">
+ * &#64;Embedded
+ * &#64;AttributeOverride(name = "amount", column = &#64;Column(name = "PRICE_AMOUNT", precision = 38, scale = 18))
+ * &#64;AttributeOverride(name = "currency", column = &#64;Column(name = "PRICE_CURRENCY", length = 3))
+ * &#64;AttributeOverride(name = "legacy", column = &#64;Column(name = "PRICE", insertable = false, updatable = false))
+ * private EmbeddableMonetaryAmount price;
+ * </pre>
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddableMonetaryAmount {
+
+	private @Nullable @Column(precision = 38, scale = 18) BigDecimal amount;
+	private @Nullable @Column(length = 3) String currency;
+	private @Nullable @Column(insertable = false, updatable = false) String legacy;
+
+	private @Transient @Nullable MonetaryAmount monetaryAmount;
+
+	private EmbeddableMonetaryAmount(MonetaryAmount monetaryAmount) {
+
+		this.amount = monetaryAmount.getNumber().numberValue(BigDecimal.class);
+		this.currency = monetaryAmount.getCurrency().getCurrencyCode();
+		this.monetaryAmount = monetaryAmount;
+	}
+
+	/**
+	 * Creates a new {@link EmbeddableMonetaryAmount} for the given {@link MonetaryAmount}.
+	 *
+	 * @param monetaryAmount must not be {@literal null}.
+	 * @return
+	 */
+	public static EmbeddableMonetaryAmount of(MonetaryAmount monetaryAmount) {
+
+		Assert.notNull(monetaryAmount, "Monetary amount must not be null!");
+
+		return new EmbeddableMonetaryAmount(monetaryAmount);
+	}
+
+	/**
+	 * Returns the {@link MonetaryAmount} represented. Falls back to the legacy {@link String} representation in case the
+	 * numeric columns are not populated and migrates the value to those.
+	 *
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case neither the numeric nor the legacy columns are populated.
+	 */
+	public MonetaryAmount toMonetaryAmount() {
+
+		var result = this.monetaryAmount;
+
+		if (result != null) {
+			return result;
+		}
+
+		if (amount != null && currency != null) {
+
+			result = Money.of(amount.stripTrailingZeros(), currency);
+
+		} else {
+
+			Assert.state(legacy != null, "Neither numeric nor legacy monetary amount columns populated!");
+
+			result = MonetaryAmountAttributeConverter.parse(legacy);
+
+			this.amount = result.getNumber().numberValue(BigDecimal.class);
+			this.currency = result.getCurrency().getCurrencyCode();
+		}
+
+		this.monetaryAmount = result;
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return toMonetaryAmount().toString();
+	}
+}
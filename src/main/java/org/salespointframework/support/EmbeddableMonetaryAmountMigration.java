@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+import javax.money.MonetaryAmount;
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Migrates rows that were written by previous versions in bulk, i.e. fills the numeric columns of all
+ * {@link EmbeddableMonetaryAmount}s from the legacy {@link String} column on application startup in case they're not
+ * populated yet. Applies to all entities with {@link EmbeddableMonetaryAmount} properties, including application ones.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+@RequiredArgsConstructor
+class EmbeddableMonetaryAmountMigration {
+
+	private static final Logger LOG = LoggerFactory.getLogger(EmbeddableMonetaryAmountMigration.class);
+
+	private static final String LEGACY_VALUES = "select distinct e.%2$s.legacy from %1$s e "
+			+ "where e.%2$s.amount is null and e.%2$s.legacy is not null";
+	private static final String MIGRATE = "update %1$s e set e.%2$s.amount = :amount, e.%2$s.currency = :currency "
+			+ "where e.%2$s.amount is null and e.%2$s.legacy = :legacy";
+
+	private final @NonNull EntityManager em;
+	private final @NonNull PlatformTransactionManager transactionManager;
+
+	@EventListener(ApplicationReadyEvent.class)
+	void migrateOnStartup() {
+
+		var migrated = new TransactionTemplate(transactionManager).execute(__ -> migrate());
+
+		if (migrated != null && migrated > 0) {
+			LOG.info("Migrated {} legacy monetary amounts to numeric amount and currency columns.", migrated);
+		}
+	}
+
+	/**
+	 * Migrates all rows whose numeric columns are not populated yet. Has to be called within a transaction.
+	 *
+	 * @return the number of rows migrated.
+	 */
+	int migrate() {
+
+		return em.getMetamodel().getEntities().stream() //
+				.flatMap(entity -> entity.getSingularAttributes().stream() //
+						.filter(it -> EmbeddableMonetaryAmount.class.equals(it.getJavaType())) //
+						.filter(it -> isDeclaredBy(entity, it)) //
+						.map(it -> migrate(entity.getName(), it.getName()))) //
+				.mapToInt(Integer::intValue) //
+				.sum();
+	}
+
+	private int migrate(String entityName, String attribute) {
+
+		var legacyValues = em.createQuery(String.format(LEGACY_VALUES, entityName, attribute), String.class) //
+				.getResultList();
+
+		var migrated = 0;
+
+		for (var legacy : legacyValues) {
+
+			MonetaryAmount amount;
+
+			try {
+				amount = MonetaryAmountAttributeConverter.parse(legacy);
+			} catch (RuntimeException o_O) {
+				LOG.warn("Could not parse legacy monetary amount {} of {}.{}!", legacy, entityName, attribute, o_O);
+				continue;
+			}
+
+			migrated += em.createQuery(String.format(MIGRATE, entityName, attribute)) //
+					.setParameter("amount", amount.getNumber().numberValue(BigDecimal.class)) //
+					.setParameter("currency", amount.getCurrency().getCurrencyCode()) //
+					.setParameter("legacy", legacy) //
+					.executeUpdate();
+		}
+
+		return migrated;
+	}
+
+	/**
+	 * Returns whether the given {@link Attribute} is declared by the given {@link EntityType} itself rather than a super
+	 * entity, so that entity hierarchies are only migrated once.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param attribute must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isDeclaredBy(EntityType<?> entity, Attribute<?, ?> attribute) {
+
+		var declaringType = attribute.getDeclaringType();
+
+		return !(declaringType instanceof EntityType) || declaringType.equals(entity);
+	}
+}
@@ -51,10 +51,18 @@ class MonetaryAmountAttributeConverter implements AttributeConverter<MonetaryAmo
 	 */
 	@Override
 	public MonetaryAmount convertToEntityAttribute(String source) {
+		return source == null ? null : parse(source);
+	}
 
-		if (source == null) {
-			return null;
-		}
+	/**
+	 * Parses the given {@link String} representation of a {@link MonetaryAmount} as written by
+	 * {@link #convertToDatabaseColumn(MonetaryAmount)}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @since 8.0
+	 */
+	static MonetaryAmount parse(String source) {
 
 		try {
 			return Money.parse(source);
@@ -15,48 +15,57 @@
  */
 package org.salespointframework.time;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
 /**
- * Value object to represent a list o {@link Interval}s.
- * 
+ * Value object to represent a list o {@link Interval}s. The {@link Interval}s are computed lazily on iteration, the
+ * {@link Spliterator} exposed is sized and can be split to process the {@link Interval}s in parallel.
+ *
  * @author Oliver Gierke
  */
 public class Intervals implements Streamable<Interval> {
 
-	private final Iterable<Interval> intervals;
+	private final LocalDateTime start, end;
+	private final TemporalAmount duration;
+
+	private volatile long size = -1;
 
 	/**
 	 * Creates a new {@link Intervals} instance with all {@link Interval}s of the given duration between the givne start
 	 * and end date.
-	 * 
+	 *
 	 * @param start must not be {@literal null}.
 	 * @param end must not be {@literal null}.
-	 * @param duration must not be {@literal null}.
+	 * @param duration must not be {@literal null} and positive.
 	 */
 	private Intervals(LocalDateTime start, LocalDateTime end, TemporalAmount duration) {
 
 		Assert.notNull(start, "Start date must not be null!");
 		Assert.notNull(end, "End date must not be null!");
 		Assert.notNull(duration, "Duration must not be null!");
+		Assert.isTrue(start.plus(duration).isAfter(start), "Duration must be positive!");
 
-		this.intervals = getIntervals(start, end, duration);
+		this.start = start;
+		this.end = end;
+		this.duration = duration;
 	}
 
 	/**
 	 * Divides the given {@link Interval} into smaller intervals of the given duration.
-	 * 
+	 *
 	 * @param interval must not be {@literal null}.
-	 * @param duration must not be {@literal null}.
+	 * @param duration must not be {@literal null} and positive.
 	 * @return
 	 */
 	public static Intervals divide(Interval interval, TemporalAmount duration) {
@@ -68,34 +77,216 @@ public class Intervals implements Streamable<Interval> {
 	}
 
 	/**
-	 * Recursively builds up all {@link Interval}s of the given duration between the given start and end date.
-	 * 
-	 * @param start must not be {@literal null}.
-	 * @param end must not be {@literal null}.
-	 * @param duration must not be {@literal null}.
-	 * @return
+	 * Returns the number of {@link Interval}s without creating them.
+	 *
+	 * @return will always be greater than zero.
 	 */
-	private static Collection<Interval> getIntervals(LocalDateTime start, LocalDateTime end, TemporalAmount duration) {
+	public long size() {
 
-		LocalDateTime target = start.plus(duration);
-
-		if (!target.isBefore(end)) {
-			return Collections.singleton(Interval.from(start).to(end));
+		if (size < 0) {
+			this.size = calculateSize();
 		}
 
-		List<Interval> intervals = new ArrayList<>();
-		intervals.add(Interval.from(start).to(target));
-		intervals.addAll(getIntervals(target, end, duration));
-
-		return Collections.unmodifiableList(intervals);
+		return size;
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
 	 */
 	@Override
 	public Iterator<Interval> iterator() {
-		return intervals.iterator();
+
+		return new Iterator<Interval>() {
+
+			private LocalDateTime current = start;
+			private boolean done = false;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+				return !done;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public Interval next() {
+
+				if (done) {
+					throw new NoSuchElementException();
+				}
+
+				var target = current.plus(duration);
+
+				if (!target.isBefore(end)) {
+
+					this.done = true;
+
+					return Interval.from(current).to(end);
+				}
+
+				var interval = Interval.from(current).to(target);
+				this.current = target;
+
+				return interval;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#spliterator()
+	 */
+	@Override
+	public Spliterator<Interval> spliterator() {
+		return new IntervalSpliterator(start, size());
+	}
+
+	/**
+	 * Returns whether the boundaries of the {@link Interval}s can be calculated directly, i.e. adding the duration
+	 * multiple times is the same as adding it multiplied once. That's not the case for {@link Period}s containing months
+	 * or years as the day of month is adjusted to the shorter months.
+	 *
+	 * @return
+	 */
+	private boolean isFixedLength() {
+		return duration instanceof Duration
+				|| duration instanceof Period && ((Period) duration).toTotalMonths() == 0;
+	}
+
+	/**
+	 * Returns the boundary reached by adding the duration the given number of times to the given one.
+	 *
+	 * @param boundary must not be {@literal null}.
+	 * @param steps must not be negative.
+	 * @return
+	 */
+	private LocalDateTime advance(LocalDateTime boundary, long steps) {
+
+		if (duration instanceof Duration) {
+			return boundary.plus(((Duration) duration).multipliedBy(steps));
+		}
+
+		if (isFixedLength()) {
+			return boundary.plusDays(Math.multiplyExact(((Period) duration).getDays(), steps));
+		}
+
+		var result = boundary;
+
+		for (long i = 0; i < steps; i++) {
+			result = result.plus(duration);
+		}
+
+		return result;
+	}
+
+	private long calculateSize() {
+
+		if (isFixedLength()) {
+
+			var steps = duration instanceof Duration //
+					? Duration.between(start, end).dividedBy((Duration) duration) //
+					: ChronoUnit.DAYS.between(start, end) / ((Period) duration).getDays();
+
+			return steps == 0 || advance(start, steps).isBefore(end) ? steps + 1 : steps;
+		}
+
+		long steps = 1;
+
+		for (var current = start.plus(duration); current.isBefore(end); current = current.plus(duration)) {
+			steps++;
+		}
+
+		return steps;
+	}
+
+	/**
+	 * A {@link Spliterator} over a range of {@link Interval}s starting at a given boundary.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	private class IntervalSpliterator implements Spliterator<Interval> {
+
+		private LocalDateTime current;
+		private long remaining;
+
+		/**
+		 * Creates a new {@link IntervalSpliterator} for the given number of {@link Interval}s starting at the given
+		 * boundary.
+		 *
+		 * @param current must not be {@literal null}.
+		 * @param remaining the number of {@link Interval}s to produce.
+		 */
+		IntervalSpliterator(LocalDateTime current, long remaining) {
+
+			this.current = current;
+			this.remaining = remaining;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super Interval> action) {
+
+			if (remaining == 0) {
+				return false;
+			}
+
+			var target = remaining == 1 ? end : current.plus(duration);
+
+			action.accept(Interval.from(current).to(target));
+
+			this.current = target;
+			this.remaining--;
+
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#trySplit()
+		 */
+		@Override
+		public Spliterator<Interval> trySplit() {
+
+			if (remaining < 2) {
+				return null;
+			}
+
+			var half = remaining / 2;
+			var prefix = new IntervalSpliterator(current, half);
+
+			this.current = advance(current, half);
+			this.remaining -= half;
+
+			return prefix;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#estimateSize()
+		 */
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#characteristics()
+		 */
+		@Override
+		public int characteristics() {
+			return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+		}
 	}
 }
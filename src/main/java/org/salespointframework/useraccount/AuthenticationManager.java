@@ -16,6 +16,7 @@
 package org.salespointframework.useraccount;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.salespointframework.useraccount.Password.EncryptedPassword;
 import org.salespointframework.useraccount.Password.UnencryptedPassword;
@@ -45,4 +46,18 @@ public interface AuthenticationManager {
 	 * @return
 	 */
 	boolean matches(UnencryptedPassword candidate, EncryptedPassword existing);
+
+	/**
+	 * Returns whether the given candidate {@link Password} matches the given existing one, verified asynchronously so
+	 * that the calling thread is not blocked by the password hashing.
+	 *
+	 * @param candidate can be {@literal null}.
+	 * @param existing must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see PasswordHashingExecutor
+	 */
+	default CompletableFuture<Boolean> matchesAsync(UnencryptedPassword candidate, EncryptedPassword existing) {
+		return CompletableFuture.completedFuture(matches(candidate, existing));
+	}
 }
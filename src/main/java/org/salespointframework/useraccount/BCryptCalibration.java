@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.util.Assert;
+
+/**
+ * Utility to pick the BCrypt cost factor (strength) for a password hashing latency budget. As every increment of the
+ * strength doubles the hashing time, the time a single hash takes on the current host is measured for increasing
+ * strengths until the given target latency is exceeded.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see PasswordEncodingProperties#getTargetLatency()
+ */
+public class BCryptCalibration {
+
+	static final int MIN_STRENGTH = 4;
+	static final int MAX_STRENGTH = 31;
+
+	private static final int RUNS = 3;
+	private static final String SAMPLE = "calibration";
+
+	private BCryptCalibration() {}
+
+	/**
+	 * Returns the highest BCrypt strength whose hashing time on the current host does not exceed the given target
+	 * latency. Falls back to the minimum strength of 4 if even that exceeds it.
+	 *
+	 * @param targetLatency must not be {@literal null} or negative.
+	 * @return will always be between 4 and 31.
+	 */
+	public static int calibrate(Duration targetLatency) {
+
+		Assert.notNull(targetLatency, "Target latency must not be null!");
+		Assert.isTrue(!targetLatency.isNegative(), "Target latency must not be negative!");
+
+		var strength = MIN_STRENGTH;
+
+		while (strength < MAX_STRENGTH && measure(strength + 1).compareTo(targetLatency) <= 0) {
+			strength++;
+		}
+
+		return strength;
+	}
+
+	/**
+	 * Measures the time hashing a password with the given BCrypt strength takes on the current host, i.e. the median of
+	 * a few runs.
+	 *
+	 * @param strength must be between 4 and 31.
+	 * @return will never be {@literal null}.
+	 */
+	public static Duration measure(int strength) {
+
+		Assert.isTrue(strength >= MIN_STRENGTH && strength <= MAX_STRENGTH,
+				String.format("Strength must be between %s and %s!", MIN_STRENGTH, MAX_STRENGTH));
+
+		var encoder = new BCryptPasswordEncoder(strength);
+		var durations = new long[RUNS];
+
+		for (int i = 0; i < RUNS; i++) {
+
+			var start = System.nanoTime();
+			encoder.encode(SAMPLE);
+			durations[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(durations);
+
+		return Duration.ofNanos(durations[RUNS / 2]);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes the {@link UserAccount} of the current user per request so that it is only looked up once. The memoized
+ * {@link UserAccount} is discarded once the current {@link Authentication} changes, e.g. on login or logout, or if
+ * {@link #invalidate()} is called due to changes of {@link UserAccount}s. Outside of requests, nothing is memoized.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+class CurrentUserAccountCache {
+
+	private static final String ATTRIBUTE = CurrentUserAccountCache.class.getName();
+
+	private CurrentUserAccountCache() {}
+
+	/**
+	 * Returns the {@link UserAccount} memoized for the given {@link Authentication} in the current request or looks it
+	 * up using the given {@link Supplier} and memoizes it.
+	 *
+	 * @param authentication can be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Optional<UserAccount> get(@Nullable Authentication authentication, Supplier<Optional<UserAccount>> loader) {
+
+		var attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return loader.get();
+		}
+
+		var entry = (Entry) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (entry != null && entry.getAuthentication() == authentication) {
+			return entry.getUserAccount();
+		}
+
+		var result = loader.get();
+
+		attributes.setAttribute(ATTRIBUTE, new Entry(authentication, result), RequestAttributes.SCOPE_REQUEST);
+
+		return result;
+	}
+
+	/**
+	 * Discards the {@link UserAccount} memoized in the current request, if any.
+	 */
+	static void invalidate() {
+
+		var attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes != null) {
+			attributes.removeAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	@Value
+	private static class Entry {
+
+		@Nullable Authentication authentication;
+		Optional<UserAccount> userAccount;
+	}
+}
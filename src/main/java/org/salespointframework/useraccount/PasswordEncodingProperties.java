@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure the {@link SalespointPasswordEncoder}. Declare
+ * {@code salespoint.authentication.password-encoding.…} in application properties to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.authentication.password-encoding")
+class PasswordEncodingProperties {
+
+	static final int DEFAULT_STRENGTH = 10;
+
+	/**
+	 * The BCrypt cost factor (log rounds) to hash passwords with, defaults to 10 unless a {@link #targetLatency} is
+	 * configured.
+	 */
+	private @Nullable Integer strength;
+
+	/**
+	 * The time hashing a password should take at most. If configured and no {@link #strength} is given explicitly, the
+	 * strength is calibrated on startup to the highest one meeting that latency on the current host.
+	 */
+	private @Nullable Duration targetLatency;
+
+	/**
+	 * Returns the BCrypt cost factor to hash passwords with, calibrated against the {@link #targetLatency} if configured.
+	 *
+	 * @return will always be between 4 and 31.
+	 * @see BCryptCalibration#calibrate(Duration)
+	 */
+	public int getStrength() {
+
+		if (strength != null) {
+			return Math.min(BCryptCalibration.MAX_STRENGTH, Math.max(BCryptCalibration.MIN_STRENGTH, strength));
+		}
+
+		return targetLatency == null ? DEFAULT_STRENGTH : BCryptCalibration.calibrate(targetLatency);
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.salespointframework.useraccount.Password.EncryptedPassword;
+import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the configured {@link PasswordEncoder} on a dedicated pool of threads so that expensive password hashing does
+ * not block the threads serving requests. The number of hashing requests waiting for a thread is limited, requests
+ * exceeding that limit are rejected immediately with a {@link RejectedExecutionException} instead of piling up. Pool
+ * size and queue capacity can be configured via {@code salespoint.authentication.password-hashing.…}.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see UserAccountManager#createAsync(String, UnencryptedPassword, String, Role...)
+ * @see UserAccountManager#changePasswordAsync(UserAccount, UnencryptedPassword)
+ * @see AuthenticationManager#matchesAsync(UnencryptedPassword, EncryptedPassword)
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+
+	private final LongAdder hashes = new LongAdder();
+	private final LongAdder hashNanos = new LongAdder();
+	private final AtomicLong maxHashNanos = new AtomicLong();
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * Creates a new {@link PasswordHashingExecutor} for the given {@link PasswordEncoder} and
+	 * {@link PasswordHashingProperties}.
+	 *
+	 * @param passwordEncoder must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	PasswordHashingExecutor(PasswordEncoder passwordEncoder, PasswordHashingProperties properties) {
+
+		Assert.notNull(passwordEncoder, "PasswordEncoder must not be null!");
+		Assert.notNull(properties, "PasswordHashingProperties must not be null!");
+
+		var threadFactory = new CustomizableThreadFactory("salespoint-password-hashing-");
+		threadFactory.setDaemon(true);
+
+		this.passwordEncoder = passwordEncoder;
+		this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(), 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Encrypts the given {@link UnencryptedPassword} asynchronously.
+	 *
+	 * @param password must not be {@literal null}.
+	 * @return will never be {@literal null}. Completes exceptionally with a {@link RejectedExecutionException} if too
+	 *         many hashing requests are pending already.
+	 */
+	public CompletableFuture<EncryptedPassword> encrypt(UnencryptedPassword password) {
+
+		Assert.notNull(password, "Password must not be null!");
+
+		return submit(() -> encode(password));
+	}
+
+	/**
+	 * Encrypts all given {@link UnencryptedPassword}s and waits for them to be encrypted. At most as many passwords as
+	 * the pool has threads are handed to it at a time, so that bulk operations don't fill up the queue for the other
+	 * hashing requests. Passwords that are rejected nonetheless, as the queue is full already, are encrypted in the
+	 * calling thread.
+	 *
+	 * @param passwords must not be {@literal null}.
+	 * @return the {@link EncryptedPassword}s in the order of the given {@link UnencryptedPassword}s, will never be
+	 *         {@literal null}.
+	 */
+	List<EncryptedPassword> encryptAll(List<UnencryptedPassword> passwords) {
+
+		Assert.notNull(passwords, "Passwords must not be null!");
+
+		var permits = new Semaphore(executor.getMaximumPoolSize());
+		var futures = new ArrayList<CompletableFuture<EncryptedPassword>>(passwords.size());
+
+		for (var password : passwords) {
+
+			permits.acquireUninterruptibly();
+
+			var future = encrypt(password);
+
+			if (future.isCompletedExceptionally()) {
+
+				permits.release();
+				futures.add(CompletableFuture.completedFuture(timed(() -> encode(password))));
+
+			} else {
+				futures.add(future.whenComplete((__, ___) -> permits.release()));
+			}
+		}
+
+		return futures.stream() //
+				.map(CompletableFuture::join) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns whether the given candidate {@link UnencryptedPassword} matches the given {@link EncryptedPassword},
+	 * verified asynchronously.
+	 *
+	 * @param candidate can be {@literal null}.
+	 * @param existing must not be {@literal null}.
+	 * @return will never be {@literal null}. Completes exceptionally with a {@link RejectedExecutionException} if too
+	 *         many hashing requests are pending already.
+	 */
+	public CompletableFuture<Boolean> matches(@Nullable UnencryptedPassword candidate, EncryptedPassword existing) {
+
+		Assert.notNull(existing, "Existing password must not be null!");
+
+		if (candidate == null) {
+			return CompletableFuture.completedFuture(false);
+		}
+
+		return submit(() -> passwordEncoder.matches(candidate.asString(), existing.asString()));
+	}
+
+	/**
+	 * Returns the current {@link Statistics} of the {@link PasswordHashingExecutor}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Statistics getStatistics() {
+
+		var count = hashes.sum();
+
+		return new Statistics(executor.getQueue().size(), executor.getActiveCount(), count, rejections.sum(),
+				Duration.ofNanos(count == 0 ? 0 : hashNanos.sum() / count), Duration.ofNanos(maxHashNanos.get()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private EncryptedPassword encode(UnencryptedPassword password) {
+		return EncryptedPassword.of(passwordEncoder.encode(password.asString()));
+	}
+
+	private <T> CompletableFuture<T> submit(Supplier<T> hashing) {
+
+		try {
+
+			return CompletableFuture.supplyAsync(() -> timed(hashing), executor);
+
+		} catch (RejectedExecutionException o_O) {
+
+			rejections.increment();
+
+			return CompletableFuture.failedFuture(o_O);
+		}
+	}
+
+	private <T> T timed(Supplier<T> hashing) {
+
+		var start = System.nanoTime();
+
+		try {
+			return hashing.get();
+		} finally {
+
+			var duration = System.nanoTime() - start;
+
+			hashes.increment();
+			hashNanos.add(duration);
+			maxHashNanos.accumulateAndGet(duration, Math::max);
+		}
+	}
+
+	/**
+	 * Statistics of a {@link PasswordHashingExecutor}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	@Value
+	public static class Statistics {
+
+		/**
+		 * The number of hashing requests currently waiting for a thread.
+		 */
+		int queueDepth;
+
+		/**
+		 * The number of hashing requests currently being processed.
+		 */
+		int active;
+
+		/**
+		 * The number of hashing requests processed so far.
+		 */
+		long completed;
+
+		/**
+		 * The number of hashing requests rejected due to the queue being full.
+		 */
+		long rejected;
+
+		/**
+		 * The average time it took to process a hashing request.
+		 */
+		Duration averageLatency;
+
+		/**
+		 * The longest time it took to process a hashing request.
+		 */
+		Duration maxLatency;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure the {@link PasswordHashingExecutor}. Declare
+ * {@code salespoint.authentication.password-hashing.…} in application properties to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.authentication.password-hashing")
+class PasswordHashingProperties {
+
+	/**
+	 * The number of threads hashing passwords asynchronously, defaults to the number of available processors.
+	 */
+	private @Nullable Integer poolSize;
+
+	/**
+	 * The maximum number of hashing requests waiting for a thread, defaults to 100. Requests exceeding that limit are
+	 * rejected immediately.
+	 */
+	private @Nullable Integer queueCapacity;
+
+	/**
+	 * Returns the number of threads hashing passwords asynchronously.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getPoolSize() {
+		return poolSize == null ? Runtime.getRuntime().availableProcessors() : Math.max(1, poolSize);
+	}
+
+	/**
+	 * Returns the maximum number of hashing requests waiting for a thread.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity == null ? 100 : Math.max(1, queueCapacity);
+	}
+}
@@ -19,13 +19,19 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import org.salespointframework.core.EntityStreams;
 import org.salespointframework.useraccount.Password.EncryptedPassword;
 import org.salespointframework.useraccount.Password.UnencryptedPassword;
 import org.springframework.data.util.Streamable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -45,6 +51,12 @@ class PersistentUserAccountManager implements UserAccountManager {
 	private final @NonNull UserAccountRepository repository;
 	private final @NonNull PasswordEncoder passwordEncoder;
 	private final @NonNull AuthenticationProperties config;
+	private final @NonNull EntityStreams streams;
+	private final @NonNull UserDetailsCache cache;
+	private final @NonNull PasswordHashingExecutor hashing;
+	private final @NonNull PlatformTransactionManager transactionManager;
+	private final @NonNull UserAccountBulkCreation bulkCreation;
+	private final @NonNull UserAccountPersistencePool persistence;
 
 	/*
 	 * (non-Javadoc)
@@ -64,22 +76,40 @@ class PersistentUserAccountManager implements UserAccountManager {
 	@Transactional
 	public UserAccount create(String userName, UnencryptedPassword password, String emailAddress, Role... roles) {
 
-		Assert.hasText(userName, "Username must not be null or empty!");
-		Assert.notNull(password, "Password must not be null!");
-		Assert.hasText(emailAddress, "Email address must not be null or empty!");
-		Assert.notNull(roles, "Roles must not be null!");
+		verifyCreation(userName, password, emailAddress, roles);
 
-		// Reject username if a user with that name already exists
-		findByUsername(userName).ifPresent(user -> {
-			throw new IllegalArgumentException(String.format("User with name %s already exists!", userName));
-		});
+		return createAccount(userName, encrypt(password), emailAddress, roles);
+	}
 
-		EncryptedPassword encryptedPassword = encrypt(password);
-		UserAccount account = new UserAccount(new UserAccountIdentifier(userName), encryptedPassword, roles);
-		account.setEmail(EMAIL_PLACEHOLDER.equals(emailAddress) ? null : emailAddress);
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.useraccount.UserAccountManager#createAsync(java.lang.String, org.salespointframework.useraccount.Password.UnencryptedPassword, java.lang.String, org.salespointframework.useraccount.Role[])
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<UserAccount> createAsync(String userName, UnencryptedPassword password,
+			String emailAddress, Role... roles) {
 
-		return save(account);
+		verifyCreation(userName, password, emailAddress, roles);
 
+		return hashing.encrypt(password) //
+				.thenApplyAsync(it -> new TransactionTemplate(transactionManager).execute(__ -> {
+
+					// Re-check as the user might have been created while the password was hashed
+					rejectExistingUsername(userName);
+
+					return createAccount(userName, it, emailAddress, roles);
+				}), persistence::execute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.useraccount.UserAccountManager#createAll(java.util.stream.Stream)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UserAccountCreationReport createAll(Stream<UserAccountSpec> specs) {
+		return bulkCreation.createAll(specs);
 	}
 
 	/*
@@ -117,7 +147,11 @@ class PersistentUserAccountManager implements UserAccountManager {
 							String.format("A different UserAccount with email %s already exists!", it.getEmail()));
 				});
 
-		return repository.save(userAccount);
+		var result = repository.save(userAccount);
+
+		invalidateCaches(result);
+
+		return result;
 	}
 
 	/*
@@ -130,7 +164,10 @@ class PersistentUserAccountManager implements UserAccountManager {
 
 		Assert.notNull(userAccountIdentifier, "UserAccountIdentifier must not be null!");
 
-		get(userAccountIdentifier).ifPresent(account -> account.setEnabled(true));
+		get(userAccountIdentifier).ifPresent(account -> {
+			account.setEnabled(true);
+			invalidateCaches(account);
+		});
 	}
 
 	/*
@@ -143,7 +180,10 @@ class PersistentUserAccountManager implements UserAccountManager {
 
 		Assert.notNull(userAccountIdentifier, "UserAccountIdentifier must not be null!");
 
-		get(userAccountIdentifier).ifPresent(account -> account.setEnabled(false));
+		get(userAccountIdentifier).ifPresent(account -> {
+			account.setEnabled(false);
+			invalidateCaches(account);
+		});
 	}
 
 	/*
@@ -161,6 +201,32 @@ class PersistentUserAccountManager implements UserAccountManager {
 		save(userAccount);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.useraccount.UserAccountManager#changePasswordAsync(org.salespointframework.useraccount.UserAccount, org.salespointframework.useraccount.Password.UnencryptedPassword)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<Void> changePasswordAsync(UserAccount userAccount, UnencryptedPassword password) {
+
+		Assert.notNull(userAccount, "userAccount must not be null");
+		Assert.notNull(password, "password must not be null");
+
+		var identifier = userAccount.getId();
+
+		return hashing.encrypt(password) //
+				.thenAcceptAsync(it -> new TransactionTemplate(transactionManager).executeWithoutResult(__ -> {
+
+					// Re-load as the given instance might be used by the caller concurrently
+					var account = repository.findById(identifier) //
+							.orElseThrow(() -> new IllegalArgumentException(
+									String.format("UserAccount %s does not exist (anymore)!", identifier)));
+
+					account.setPassword(it);
+					save(account);
+				}), persistence::execute);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.useraccount.UserAccountManager#contains(org.salespointframework.useraccount.UserAccountIdentifier)
@@ -181,6 +247,16 @@ class PersistentUserAccountManager implements UserAccountManager {
 		return repository.findAll();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.useraccount.UserAccountManager#streamAll()
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public Stream<UserAccount> streamAll() {
+		return streams.streamAll(UserAccount.class);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.useraccount.UserAccountManager#findEnabled()
@@ -221,10 +297,57 @@ class PersistentUserAccountManager implements UserAccountManager {
 		Assert.notNull(account, "UserAccount must not be null!");
 
 		repository.delete(account);
+		invalidateCaches(account);
 
 		return account;
 	}
 
+	/**
+	 * Verifies the given arguments for the creation of a {@link UserAccount} and rejects the username if a
+	 * {@link UserAccount} with that name already exists.
+	 *
+	 * @param userName must not be {@literal null} or empty.
+	 * @param password must not be {@literal null}.
+	 * @param emailAddress must not be {@literal null} or empty.
+	 * @param roles must not be {@literal null}.
+	 */
+	private void verifyCreation(String userName, UnencryptedPassword password, String emailAddress, Role... roles) {
+
+		Assert.hasText(userName, "Username must not be null or empty!");
+		Assert.notNull(password, "Password must not be null!");
+		Assert.hasText(emailAddress, "Email address must not be null or empty!");
+		Assert.notNull(roles, "Roles must not be null!");
+
+		rejectExistingUsername(userName);
+	}
+
+	private void rejectExistingUsername(String userName) {
+
+		// Reject username if a user with that name already exists
+		findByUsername(userName).ifPresent(user -> {
+			throw new IllegalArgumentException(String.format("User with name %s already exists!", userName));
+		});
+	}
+
+	private UserAccount createAccount(String userName, EncryptedPassword password, String emailAddress, Role... roles) {
+
+		UserAccount account = new UserAccount(new UserAccountIdentifier(userName), password, roles);
+		account.setEmail(EMAIL_PLACEHOLDER.equals(emailAddress) ? null : emailAddress);
+
+		return save(account);
+	}
+
+	/**
+	 * Invalidates the cached user details and the {@link UserAccount} memoized for the current request.
+	 *
+	 * @param account must not be {@literal null}.
+	 */
+	private void invalidateCaches(UserAccount account) {
+
+		cache.invalidate(account);
+		CurrentUserAccountCache.invalidate();
+	}
+
 	/**
 	 * Encrypts the given raw password value.
 	 *
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PasswordEncoder} used by Salespoint. Hashes are prefixed with the identifier of the algorithm version used
+ * to create them (e.g. {@code {bcrypt}$2a$10$…}) so that the hashing can be changed without invalidating existing
+ * passwords. Hashes without a prefix, created by previous versions of Salespoint, are considered BCrypt hashes.
+ * {@link #upgradeEncoding(String)} reports hashes not created with the current version and strength, so that they are
+ * rehashed on the next successful login. Declared as primary {@link PasswordEncoder} as
+ * {@link org.salespointframework.Salespoint#passwordEncoder()} still exposes a {@link BCryptPasswordEncoder} delegating
+ * to it for compatibility.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see PasswordEncodingProperties
+ */
+@Primary
+@Component
+class SalespointPasswordEncoder implements PasswordEncoder {
+
+	static final String BCRYPT = "bcrypt";
+
+	private static final Logger LOG = LoggerFactory.getLogger(SalespointPasswordEncoder.class);
+
+	private final DelegatingPasswordEncoder delegate;
+
+	/**
+	 * Creates a new {@link SalespointPasswordEncoder} for the given {@link PasswordEncodingProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	SalespointPasswordEncoder(PasswordEncodingProperties properties) {
+
+		Assert.notNull(properties, "PasswordEncodingProperties must not be null!");
+
+		var strength = properties.getStrength();
+
+		LOG.info("Hashing passwords using BCrypt with strength {}.", strength);
+
+		this.delegate = new DelegatingPasswordEncoder(BCRYPT,
+				Map.of(BCRYPT, new StrengthVerifyingBCryptPasswordEncoder(strength)));
+		this.delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.security.crypto.password.PasswordEncoder#encode(java.lang.CharSequence)
+	 */
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return delegate.encode(rawPassword);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.security.crypto.password.PasswordEncoder#matches(java.lang.CharSequence, java.lang.String)
+	 */
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return delegate.matches(rawPassword, encodedPassword);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.security.crypto.password.PasswordEncoder#upgradeEncoding(java.lang.String)
+	 */
+	@Override
+	public boolean upgradeEncoding(@Nullable String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * A {@link BCryptPasswordEncoder} that considers hashes with any strength other than the configured one in need of
+	 * an upgrade, i.e. also ones with a higher strength, so that lowering the strength takes effect, too.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class StrengthVerifyingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+		private static final Pattern STRENGTH = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+		private final int strength;
+
+		StrengthVerifyingBCryptPasswordEncoder(int strength) {
+
+			super(strength);
+
+			this.strength = strength;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder#upgradeEncoding(java.lang.String)
+		 */
+		@Override
+		public boolean upgradeEncoding(@Nullable String encodedPassword) {
+
+			if (encodedPassword == null || encodedPassword.isEmpty()) {
+				return false;
+			}
+
+			var matcher = STRENGTH.matcher(encodedPassword);
+
+			return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+		}
+	}
+}
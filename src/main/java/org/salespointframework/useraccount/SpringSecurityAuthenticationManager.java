@@ -23,6 +23,7 @@ import lombok.ToString;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.salespointframework.useraccount.Password.EncryptedPassword;
 import org.salespointframework.useraccount.Password.UnencryptedPassword;
@@ -31,25 +32,31 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 /**
  * {@link AuthenticationManager} using the current SpringSecurity {@link Authentication} to lookup a {@link UserAccount}
- * by the identifier of it.
+ * by the identifier of it. As {@link UserDetailsPasswordService} it stores passwords rehashed by Spring Security on
+ * successful logins if the {@link PasswordEncoder} reports the existing hash to need an upgrade.
  *
  * @author Oliver Gierke
  */
 @Component
 @RequiredArgsConstructor
-class SpringSecurityAuthenticationManager implements AuthenticationManager, UserDetailsService {
+class SpringSecurityAuthenticationManager
+		implements AuthenticationManager, UserDetailsService, UserDetailsPasswordService {
 
 	private final @NonNull UserAccountRepository repository;
 	private final @NonNull PasswordEncoder passwordEncoder;
 	private final @NonNull AuthenticationProperties config;
+	private final @NonNull UserDetailsCache cache;
+	private final @NonNull PasswordHashingExecutor hashing;
 
 	/*
 	 * (non-Javadoc)
@@ -58,10 +65,12 @@ class SpringSecurityAuthenticationManager implements AuthenticationManager, User
 	@Override
 	public Optional<UserAccount> getCurrentUser() {
 
-		return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication()) //
+		var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+		return CurrentUserAccountCache.get(authentication, () -> Optional.ofNullable(authentication) //
 				.map(Authentication::getName) //
 				.map(UserAccountIdentifier::new) //
-				.flatMap(repository::findById);
+				.flatMap(repository::findById));
 	}
 
 	/*
@@ -78,6 +87,15 @@ class SpringSecurityAuthenticationManager implements AuthenticationManager, User
 				orElse(false);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.useraccount.AuthenticationManager#matchesAsync(org.salespointframework.useraccount.Password.UnencryptedPassword, org.salespointframework.useraccount.Password.EncryptedPassword)
+	 */
+	@Override
+	public CompletableFuture<Boolean> matchesAsync(UnencryptedPassword candidate, EncryptedPassword existing) {
+		return hashing.matches(candidate, existing);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.security.core.userdetails.UserDetailsService#loadUserByUsername(java.lang.String)
@@ -85,12 +103,44 @@ class SpringSecurityAuthenticationManager implements AuthenticationManager, User
 	@Override
 	public UserDetails loadUserByUsername(String name) throws UsernameNotFoundException {
 
-		Optional<UserAccount> candidate = config.isLoginViaEmail() //
-				? repository.findByEmail(name) //
-				: repository.findById(new UserAccountIdentifier(name));
+		return cache.get(name, () -> {
+
+			Optional<UserAccount> candidate = config.isLoginViaEmail() //
+					? repository.findByEmail(name) //
+					: repository.findById(new UserAccountIdentifier(name));
+
+			return new UserAccountDetails(
+					candidate.orElseThrow(() -> new UsernameNotFoundException("Useraccount: " + name + "not found")));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.security.core.userdetails.UserDetailsPasswordService#updatePassword(org.springframework.security.core.userdetails.UserDetails, java.lang.String)
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+		Assert.notNull(user, "UserDetails must not be null!");
+		Assert.hasText(newPassword, "New password must not be null or empty!");
+
+		var name = user.getUsername();
+		Optional<UserAccount> candidate = user instanceof UserAccountDetails //
+				? repository.findById(((UserAccountDetails) user).getIdentifier()) //
+				: config.isLoginViaEmail() //
+						? repository.findByEmail(name) //
+						: repository.findById(new UserAccountIdentifier(name));
+
+		var account = candidate.orElseThrow(() -> new UsernameNotFoundException("Useraccount: " + name + " not found"));
+
+		account.setPassword(EncryptedPassword.of(newPassword));
+
+		var result = repository.save(account);
+
+		cache.invalidate(result);
 
-		return new UserAccountDetails(
-				candidate.orElseThrow(() -> new UsernameNotFoundException("Useraccount: " + name + "not found")));
+		return new UserAccountDetails(result);
 	}
 
 	@Getter
@@ -99,6 +149,7 @@ class SpringSecurityAuthenticationManager implements AuthenticationManager, User
 	@SuppressWarnings("serial")
 	static class UserAccountDetails implements UserDetails {
 
+		private final UserAccountIdentifier identifier;
 		private final String username;
 		private final String password;
 		private final boolean isEnabled;
@@ -106,6 +157,7 @@ class SpringSecurityAuthenticationManager implements AuthenticationManager, User
 
 		public UserAccountDetails(UserAccount userAccount) {
 
+			this.identifier = userAccount.getId();
 			this.username = userAccount.getUsername();
 			this.password = userAccount.getPassword().toString();
 			this.isEnabled = userAccount.isEnabled();
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+
+import org.salespointframework.useraccount.Password.EncryptedPassword;
+import org.salespointframework.useraccount.UserAccountCreationReport.Status;
+import org.salespointframework.useraccount.UserAccountCreationReport.UserAccountCreation;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates {@link UserAccount}s in bulk. The {@link UserAccountSpec}s are processed in chunks: for each chunk, the
+ * usernames and email addresses already taken are looked up with one query each, the passwords are hashed on the
+ * {@link PasswordHashingExecutor} and the {@link UserAccount}s are inserted in a transaction of their own, using JDBC
+ * batching as configured via {@code hibernate.jdbc.batch_size}. If inserting a chunk
+ * fails, e.g. because conflicting {@link UserAccount}s were created concurrently, its {@link UserAccount}s are inserted
+ * one by one to determine the failing ones.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Component
+@RequiredArgsConstructor
+class UserAccountBulkCreation {
+
+	static final int CHUNK_SIZE = 500;
+
+	private final @NonNull UserAccountRepository repository;
+	private final @NonNull PasswordHashingExecutor hashing;
+	private final @NonNull AuthenticationProperties config;
+	private final @NonNull PlatformTransactionManager transactionManager;
+	private final @NonNull EntityManager em;
+
+	/**
+	 * Creates {@link UserAccount}s for all given {@link UserAccountSpec}s and closes the given {@link Stream}.
+	 *
+	 * @param specs must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	UserAccountCreationReport createAll(Stream<UserAccountSpec> specs) {
+
+		Assert.notNull(specs, "UserAccountSpecs must not be null!");
+
+		var context = new CreationContext();
+
+		try (specs) {
+
+			var iterator = specs.iterator();
+			var chunk = new ArrayList<Row>(CHUNK_SIZE);
+			var index = 0L;
+
+			while (iterator.hasNext()) {
+
+				chunk.add(new Row(index++, iterator.next()));
+
+				if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+					process(chunk, context);
+					chunk.clear();
+				}
+			}
+		}
+
+		return new UserAccountCreationReport(context.creations);
+	}
+
+	private void process(List<Row> chunk, CreationContext context) {
+
+		var candidates = chunk.stream() //
+				.filter(it -> verify(it, context)) //
+				.collect(Collectors.toList());
+
+		if (candidates.isEmpty()) {
+			context.addAll(chunk);
+			return;
+		}
+
+		rejectExisting(candidates);
+
+		var accounts = candidates.stream() //
+				.filter(it -> it.failure == null) //
+				.collect(Collectors.toList());
+
+		// Hash outside of a transaction to not block a connection
+		var passwords = hashing.encryptAll(accounts.stream() //
+				.map(it -> it.spec.getPassword()) //
+				.collect(Collectors.toList()));
+
+		for (int i = 0; i < accounts.size(); i++) {
+			accounts.get(i).account = toAccount(accounts.get(i).spec, passwords.get(i));
+		}
+
+		insert(accounts);
+
+		context.addAll(chunk);
+	}
+
+	/**
+	 * Verifies the given {@link Row} and rejects duplicates of the ones seen before.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return whether the {@link Row} is a candidate for creation.
+	 */
+	private boolean verify(Row row, CreationContext context) {
+
+		var spec = row.spec;
+
+		if (!StringUtils.hasText(spec.getUsername())) {
+			return row.fail(Status.INVALID, "Username must not be null or empty!");
+		}
+
+		if (config.isLoginViaEmail() && !StringUtils.hasText(spec.getEmail())) {
+			return row.fail(Status.INVALID, "Email address must not be null or empty if login via email is configured!");
+		}
+
+		if (!context.usernames.add(spec.getUsername())) {
+			return row.fail(Status.USERNAME_TAKEN,
+					String.format("User with name %s was specified before!", spec.getUsername()));
+		}
+
+		if (spec.getEmail() != null && !context.emails.add(spec.getEmail())) {
+			return row.fail(Status.EMAIL_TAKEN,
+					String.format("User with email %s was specified before!", spec.getEmail()));
+		}
+
+		return true;
+	}
+
+	private void rejectExisting(List<Row> candidates) {
+
+		var usernames = candidates.stream() //
+				.map(it -> it.spec.getUsername()) //
+				.collect(Collectors.toSet());
+
+		var emails = candidates.stream() //
+				.map(it -> it.spec.getEmail()) //
+				.filter(StringUtils::hasText) //
+				.collect(Collectors.toSet());
+
+		var takenUsernames = repository.findUsernamesIn(usernames);
+		var takenEmails = emails.isEmpty() ? Collections.<String> emptySet() : repository.findEmailsIn(emails);
+
+		candidates.forEach(it -> {
+
+			var spec = it.spec;
+
+			if (takenUsernames.contains(spec.getUsername())) {
+				it.fail(Status.USERNAME_TAKEN, String.format("User with name %s already exists!", spec.getUsername()));
+			} else if (spec.getEmail() != null && takenEmails.contains(spec.getEmail())) {
+				it.fail(Status.EMAIL_TAKEN,
+						String.format("A different UserAccount with email %s already exists!", spec.getEmail()));
+			}
+		});
+	}
+
+	private void insert(List<Row> rows) {
+
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		try {
+
+			insertInTransaction(rows);
+
+		} catch (DataAccessException | PersistenceException o_O) {
+
+			for (var row : rows) {
+
+				try {
+					insertInTransaction(List.of(row));
+				} catch (DataAccessException | PersistenceException inner) {
+					row.fail(Status.FAILED,
+							String.format("User with name %s could not be stored: %s", row.spec.getUsername(), inner.getMessage()));
+				}
+			}
+		}
+	}
+
+	private void insertInTransaction(List<Row> rows) {
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(__ -> {
+
+			// Publishes the UserAccountCreated events, too
+			repository.saveAll(rows.stream().map(it -> it.account).collect(Collectors.toList()));
+
+			em.flush();
+			em.clear();
+		});
+	}
+
+	private static UserAccount toAccount(UserAccountSpec spec, EncryptedPassword password) {
+		return new UserAccount(new UserAccountIdentifier(spec.getUsername()), password, null, null, spec.getEmail(),
+				spec.getRoles());
+	}
+
+	/**
+	 * A {@link UserAccountSpec} to be processed along with its position in the source and the outcome of its processing.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Row {
+
+		private final long index;
+		private final UserAccountSpec spec;
+		private @Nullable UserAccount account;
+		private @Nullable UserAccountCreation failure;
+
+		Row(long index, UserAccountSpec spec) {
+
+			Assert.notNull(spec, "UserAccountSpec must not be null!");
+
+			this.index = index;
+			this.spec = spec;
+		}
+
+		boolean fail(Status status, String message) {
+
+			this.failure = UserAccountCreation.failed(index, spec, status, message);
+
+			return false;
+		}
+
+		UserAccountCreation toCreation() {
+			return failure != null ? failure : UserAccountCreation.created(index, spec);
+		}
+	}
+
+	/**
+	 * The state kept across chunks, i.e. the usernames and email addresses specified so far and the
+	 * {@link UserAccountCreation}s of the chunks processed.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class CreationContext {
+
+		private final Set<String> usernames = new HashSet<>();
+		private final Set<String> emails = new HashSet<>();
+		private final List<UserAccountCreation> creations = new ArrayList<>();
+
+		void addAll(List<Row> rows) {
+			rows.forEach(it -> creations.add(it.toCreation()));
+		}
+	}
+}
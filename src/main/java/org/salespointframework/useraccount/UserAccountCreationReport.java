@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.salespointframework.useraccount.UserAccountCreationReport.UserAccountCreation;
+import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The result of the bulk creation of {@link UserAccount}s, containing a {@link UserAccountCreation} per
+ * {@link UserAccountSpec} in the order they were given.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see UserAccountManager#createAll(java.util.stream.Stream)
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class UserAccountCreationReport implements Streamable<UserAccountCreation> {
+
+	private final List<UserAccountCreation> creations;
+
+	/**
+	 * Returns the {@link UserAccountCreation}s of the {@link UserAccount}s successfully created.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Streamable<UserAccountCreation> getCreated() {
+		return filter(UserAccountCreation::isCreated);
+	}
+
+	/**
+	 * Returns the {@link UserAccountCreation}s of the {@link UserAccountSpec}s that could not be created.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Streamable<UserAccountCreation> getFailed() {
+		return filter(it -> !it.isCreated());
+	}
+
+	/**
+	 * Returns whether any of the {@link UserAccountSpec}s could not be created.
+	 *
+	 * @return
+	 */
+	public boolean hasErrors() {
+		return creations.stream().anyMatch(it -> !it.isCreated());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<UserAccountCreation> iterator() {
+		return creations.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		var created = creations.stream().filter(UserAccountCreation::isCreated).count();
+
+		return String.format("%s of %s user accounts created", created, creations.size());
+	}
+
+	/**
+	 * The outcome of the creation of a single {@link UserAccountSpec}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class UserAccountCreation {
+
+		/**
+		 * The position of the {@link UserAccountSpec} in the source stream, starting with 0.
+		 */
+		long index;
+		@Nullable String username;
+		Status status;
+		@Nullable String message;
+
+		static UserAccountCreation created(long index, UserAccountSpec spec) {
+			return new UserAccountCreation(index, spec.getUsername(), Status.CREATED, null);
+		}
+
+		static UserAccountCreation failed(long index, UserAccountSpec spec, Status status, String message) {
+
+			Assert.isTrue(status != Status.CREATED, "Status must not indicate a creation!");
+			Assert.hasText(message, "Message must not be null or empty!");
+
+			return new UserAccountCreation(index, spec.getUsername(), status, message);
+		}
+
+		/**
+		 * Returns whether the {@link UserAccount} was created successfully.
+		 *
+		 * @return
+		 */
+		public boolean isCreated() {
+			return status == Status.CREATED;
+		}
+	}
+
+	/**
+	 * The status of a {@link UserAccountCreation}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public enum Status {
+
+		/**
+		 * The {@link UserAccount} was created.
+		 */
+		CREATED,
+
+		/**
+		 * The {@link UserAccountSpec} was invalid, e.g. did not contain a username.
+		 */
+		INVALID,
+
+		/**
+		 * A {@link UserAccount} with the same username already exists or was specified before.
+		 */
+		USERNAME_TAKEN,
+
+		/**
+		 * A {@link UserAccount} with the same email address already exists or was specified before.
+		 */
+		EMAIL_TAKEN,
+
+		/**
+		 * The {@link UserAccount} could not be stored, e.g. as a conflicting one was created concurrently.
+		 */
+		FAILED;
+	}
+}
@@ -15,11 +15,17 @@
  */
 package org.salespointframework.useraccount;
 
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.salespointframework.useraccount.UserAccountCreationReport.Status;
+import org.salespointframework.useraccount.UserAccountCreationReport.UserAccountCreation;
 import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 
 /**
  * Central service to manager {@link UserAccount} instances.
@@ -52,6 +58,70 @@ public interface UserAccountManager {
 	 */
 	UserAccount create(String userName, UnencryptedPassword password, String emailAddress, Role... roles);
 
+	/**
+	 * Creates a new {@link UserAccount} with the password hashed asynchronously, so that the calling thread is not
+	 * blocked by it, and persists it in a transaction of its own once the hashing has completed.
+	 *
+	 * @param userName the unique name of the user, the name is also used as login name.
+	 * @param password the password
+	 * @param emailAddress the email address to be used
+	 * @param roles zero or more roles
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see PasswordHashingExecutor
+	 */
+	default CompletableFuture<UserAccount> createAsync(String userName, UnencryptedPassword password,
+			String emailAddress, Role... roles) {
+		return CompletableFuture.completedFuture(create(userName, password, emailAddress, roles));
+	}
+
+	/**
+	 * Creates {@link UserAccount}s for all given {@link UserAccountSpec}s in bulk. Usernames and email addresses are
+	 * checked for uniqueness in batches, passwords are hashed in parallel and the {@link UserAccount}s are inserted in
+	 * chunks, each in a transaction of its own. {@link UserAccountSpec}s that are invalid or conflict with existing
+	 * {@link UserAccount}s or ones specified before are skipped and reported. The given {@link Stream} is closed. The
+	 * default implementation creates the {@link UserAccount}s one by one using
+	 * {@link #create(String, UnencryptedPassword, String, Role...)}.
+	 *
+	 * @param specs must not be {@literal null}.
+	 * @return a {@link UserAccountCreationReport} containing the outcome for each {@link UserAccountSpec}, will never be
+	 *         {@literal null}.
+	 * @since 8.0
+	 */
+	default UserAccountCreationReport createAll(Stream<UserAccountSpec> specs) {
+
+		Assert.notNull(specs, "UserAccountSpecs must not be null!");
+
+		var creations = new ArrayList<UserAccountCreation>();
+
+		try (specs) {
+
+			var iterator = specs.iterator();
+
+			for (long index = 0; iterator.hasNext(); index++) {
+
+				var spec = iterator.next();
+				var roles = spec.getRoles().toArray(Role[]::new);
+
+				try {
+
+					if (spec.getEmail() == null) {
+						create(spec.getUsername(), spec.getPassword(), roles);
+					} else {
+						create(spec.getUsername(), spec.getPassword(), spec.getEmail(), roles);
+					}
+
+					creations.add(UserAccountCreation.created(index, spec));
+
+				} catch (RuntimeException o_O) {
+					creations.add(UserAccountCreation.failed(index, spec, Status.FAILED, o_O.getMessage()));
+				}
+			}
+		}
+
+		return new UserAccountCreationReport(creations);
+	}
+
 	/**
 	 * Returns an {@link UserAccount} for a given identifier.
 	 *
@@ -90,6 +160,25 @@ public interface UserAccountManager {
 	 */
 	void changePassword(UserAccount userAccount, UnencryptedPassword password);
 
+	/**
+	 * Changes the password of the {@link UserAccount} with the password hashed asynchronously, so that the calling thread
+	 * is not blocked by it, and saves the {@link UserAccount} in a transaction of its own once the hashing has completed.
+	 * Implementations may apply the password to a freshly loaded instance of the {@link UserAccount}, i.e. the given one
+	 * is not necessarily changed.
+	 *
+	 * @param userAccount must not be {@literal null}.
+	 * @param password must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see PasswordHashingExecutor
+	 */
+	default CompletableFuture<Void> changePasswordAsync(UserAccount userAccount, UnencryptedPassword password) {
+
+		changePassword(userAccount, password);
+
+		return CompletableFuture.completedFuture(null);
+	}
+
 	/**
 	 * Checks if an {@link UserAccount} exists.
 	 *
@@ -105,6 +194,21 @@ public interface UserAccountManager {
 	 */
 	Streamable<UserAccount> findAll();
 
+	/**
+	 * Returns all {@link UserAccount}s as {@link Stream} backed by a database cursor. The {@link UserAccount}s are
+	 * detached from the persistence context once consumed, unless configured otherwise via
+	 * {@code salespoint.streaming.disable-detaching}. Has to be called within a transaction and the {@link Stream} has to
+	 * be closed after use. The default implementation falls back to {@link #findAll()} and thus reads all
+	 * {@link UserAccount}s into memory.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 * @see org.salespointframework.core.EntityStreams
+	 */
+	default Stream<UserAccount> streamAll() {
+		return findAll().stream();
+	}
+
 	/**
 	 * Finds only enabled {@link UserAccount}s.
 	 *
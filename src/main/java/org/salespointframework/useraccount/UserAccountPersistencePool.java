@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * A dedicated pool of threads to persist {@link UserAccount}s once their password was hashed asynchronously. Neither
+ * the threads of the {@link PasswordHashingExecutor} nor the ones of a shared pool like
+ * {@link ForkJoinPool#commonPool()} are thus blocked by database access. Uses as many threads as the
+ * {@link PasswordHashingExecutor}. Deliberately not exposed as {@link java.util.concurrent.Executor} bean to not
+ * replace the application's default one.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see UserAccountManager#createAsync(String, UnencryptedPassword, String, Role...)
+ * @see UserAccountManager#changePasswordAsync(UserAccount, UnencryptedPassword)
+ */
+@Component
+class UserAccountPersistencePool implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Creates a new {@link UserAccountPersistencePool} for the given {@link PasswordHashingProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	UserAccountPersistencePool(PasswordHashingProperties properties) {
+
+		Assert.notNull(properties, "PasswordHashingProperties must not be null!");
+
+		var threadFactory = new CustomizableThreadFactory("salespoint-user-account-persistence-");
+		threadFactory.setDaemon(true);
+
+		// The number of tasks is bounded by the queue capacity of the PasswordHashingExecutor already
+		this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(), 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Runs the given command on the pool.
+	 *
+	 * @param command must not be {@literal null}.
+	 */
+	void execute(Runnable command) {
+
+		Assert.notNull(command, "Command must not be null!");
+
+		executor.execute(command);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -15,9 +15,13 @@
  */
 package org.salespointframework.useraccount;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.salespointframework.core.SalespointRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.util.Streamable;
 
 /**
@@ -49,4 +53,24 @@ interface UserAccountRepository extends SalespointRepository<UserAccount, UserAc
 	 * @since 7.1
 	 */
 	Optional<UserAccount> findByEmail(String emailAddress);
+
+	/**
+	 * Returns those of the given usernames that are already used by a {@link UserAccount}.
+	 *
+	 * @param usernames must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	@Query("select u.userAccountIdentifier.id from UserAccount u where u.userAccountIdentifier.id in :usernames")
+	Set<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+	/**
+	 * Returns those of the given email addresses that are already used by a {@link UserAccount}.
+	 *
+	 * @param emailAddresses must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 8.0
+	 */
+	@Query("select u.email from UserAccount u where u.email in :emailAddresses")
+	Set<String> findEmailsIn(@Param("emailAddresses") Collection<String> emailAddresses);
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The specification of a {@link UserAccount} to be created in bulk.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see UserAccountManager#createAll(java.util.stream.Stream)
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserAccountSpec {
+
+	String username;
+	UnencryptedPassword password;
+	@Nullable String email;
+	List<Role> roles;
+
+	/**
+	 * Creates a new {@link UserAccountSpec} for the given username, {@link UnencryptedPassword} and {@link Role}s.
+	 *
+	 * @param username the unique name of the user, the name is also used as login name.
+	 * @param password must not be {@literal null}.
+	 * @param roles must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static UserAccountSpec of(String username, UnencryptedPassword password, Role... roles) {
+
+		Assert.notNull(password, "Password must not be null!");
+		Assert.notNull(roles, "Roles must not be null!");
+
+		return new UserAccountSpec(username, password, null, Arrays.asList(roles));
+	}
+
+	/**
+	 * Returns a new {@link UserAccountSpec} with the given email address.
+	 *
+	 * @param email can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public UserAccountSpec withEmail(@Nullable String email) {
+		return new UserAccountSpec(username, password, email, roles);
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.salespointframework.useraccount.SpringSecurityAuthenticationManager.UserAccountDetails;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * A size-bounded cache of the {@link UserAccountDetails} looked up on login. Entries are keyed by the name used to log
+ * in, i.e. the username or the email address if {@code salespoint.authentication.login-via-email} is enabled, and
+ * invalidated via the {@link UserAccountIdentifier} of the {@link UserAccount} they were created for, so that any of
+ * the keys, including outdated email addresses, are removed. The least recently used entries are evicted once the
+ * configured maximum size is exceeded and entries expire after the configured time to live. Enable via
+ * {@code salespoint.authentication.user-details-cache.enabled}.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ * @see UserDetailsCacheProperties
+ */
+@Component
+public class UserDetailsCache {
+
+	private final boolean enabled;
+	private final int maximumSize;
+	private final long timeToLive;
+	private final Clock clock;
+
+	private final LinkedHashMap<String, Entry> entries;
+	private final Map<UserAccountIdentifier, Set<String>> keys = new HashMap<>();
+
+	private long generation, hits, misses, evictions, invalidations;
+
+	/**
+	 * Creates a new {@link UserDetailsCache} for the given {@link UserDetailsCacheProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	@Autowired
+	UserDetailsCache(UserDetailsCacheProperties properties) {
+		this(properties, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new {@link UserDetailsCache} for the given {@link UserDetailsCacheProperties} and {@link Clock}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 */
+	UserDetailsCache(UserDetailsCacheProperties properties, Clock clock) {
+
+		Assert.notNull(properties, "UserDetailsCacheProperties must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.enabled = properties.isEnabled();
+		this.maximumSize = properties.getMaximumSize();
+		this.timeToLive = properties.getTimeToLive().toMillis();
+		this.clock = clock;
+
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 4462542546412364466L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+
+				if (size() <= maximumSize) {
+					return false;
+				}
+
+				evictions++;
+				removeKey(eldest.getKey(), eldest.getValue());
+
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Returns whether the cache is enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the current {@link Statistics} of the cache.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public synchronized Statistics getStatistics() {
+		return new Statistics(entries.size(), hits, misses, evictions, invalidations);
+	}
+
+	/**
+	 * Returns the {@link UserAccountDetails} cached for the given name or looks them up using the given
+	 * {@link Supplier} and caches them.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	UserAccountDetails get(String name, Supplier<UserAccountDetails> loader) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(loader, "Loader must not be null!");
+
+		if (!enabled) {
+			return loader.get();
+		}
+
+		long current;
+
+		synchronized (this) {
+
+			var entry = entries.get(name);
+
+			if (entry != null && entry.isValidAt(now())) {
+
+				hits++;
+
+				return entry.getDetails();
+			}
+
+			if (entry != null) {
+				removeKey(name, entries.remove(name));
+			}
+
+			misses++;
+			current = generation;
+		}
+
+		var details = loader.get();
+
+		synchronized (this) {
+
+			// Don't cache details loaded concurrently with an invalidation as they might be outdated
+			if (current == generation) {
+
+				entries.put(name, new Entry(details, now() + timeToLive));
+				keys.computeIfAbsent(details.getIdentifier(), __ -> new HashSet<>()).add(name);
+			}
+		}
+
+		return details;
+	}
+
+	/**
+	 * Invalidates all entries for the given {@link UserAccount}. If called within a transaction, the entries are
+	 * invalidated once more after its completion so that details loaded before the changes were committed are not
+	 * retained.
+	 *
+	 * @param account must not be {@literal null}.
+	 */
+	void invalidate(UserAccount account) {
+
+		Assert.notNull(account, "UserAccount must not be null!");
+
+		if (!enabled) {
+			return;
+		}
+
+		var identifier = account.getId();
+
+		invalidate(identifier);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					invalidate(identifier);
+				}
+			});
+		}
+	}
+
+	private synchronized void invalidate(UserAccountIdentifier identifier) {
+
+		generation++;
+
+		var names = keys.remove(identifier);
+
+		if (names == null) {
+			return;
+		}
+
+		names.forEach(entries::remove);
+		invalidations += names.size();
+	}
+
+	private void removeKey(String name, Entry entry) {
+
+		var names = keys.get(entry.getDetails().getIdentifier());
+
+		if (names != null && names.remove(name) && names.isEmpty()) {
+			keys.remove(entry.getDetails().getIdentifier());
+		}
+	}
+
+	private long now() {
+		return Instant.now(clock).toEpochMilli();
+	}
+
+	/**
+	 * Statistics of the {@link UserDetailsCache}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 8.0
+	 */
+	@Value
+	public static class Statistics {
+
+		/**
+		 * The number of entries currently cached, including expired ones not evicted yet.
+		 */
+		int size;
+
+		/**
+		 * The number of lookups answered from the cache.
+		 */
+		long hits;
+
+		/**
+		 * The number of lookups that had to load the user details.
+		 */
+		long misses;
+
+		/**
+		 * The number of entries evicted as the maximum size was exceeded.
+		 */
+		long evictions;
+
+		/**
+		 * The number of entries invalidated due to changes to the {@link UserAccount}.
+		 */
+		long invalidations;
+	}
+
+	@Value
+	private static class Entry {
+
+		UserAccountDetails details;
+		long expiresAt;
+
+		boolean isValidAt(long time) {
+			return time < expiresAt;
+		}
+	}
+}
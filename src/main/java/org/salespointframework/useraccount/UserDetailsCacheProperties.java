@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure the {@link UserDetailsCache}. Declare {@code salespoint.authentication.user-details-cache.…}
+ * in application properties to tweak settings.
+ *
+ * @author Oliver Drotbohm
+ * @since 8.0
+ */
+@Value
+@ConstructorBinding
+@ConfigurationProperties("salespoint.authentication.user-details-cache")
+class UserDetailsCacheProperties {
+
+	/**
+	 * Enables caching the user details looked up on login, defaults to {@literal false}.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The maximum number of user details cached, defaults to 1000. The least recently used ones are evicted first.
+	 */
+	private @Nullable Integer maximumSize;
+
+	/**
+	 * The time after which cached user details expire, defaults to 5 minutes.
+	 */
+	private @Nullable Duration timeToLive;
+
+	/**
+	 * Returns the maximum number of user details cached.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getMaximumSize() {
+		return maximumSize == null ? 1000 : Math.max(1, maximumSize);
+	}
+
+	/**
+	 * Returns the time after which cached user details expire.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive == null ? Duration.ofMinutes(5) : timeToLive;
+	}
+}
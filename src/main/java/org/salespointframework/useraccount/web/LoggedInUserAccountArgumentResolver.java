@@ -19,6 +19,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.salespointframework.useraccount.AuthenticationManager;
@@ -26,6 +27,7 @@ import org.salespointframework.useraccount.UserAccount;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -51,6 +53,7 @@ class LoggedInUserAccountArgumentResolver implements HandlerMethodArgumentResolv
 			UserAccount.class);
 
 	private final @NonNull AuthenticationManager authenticationManager;
+	private final Map<MethodParameter, ResolvableType> parameterTypes = new ConcurrentReferenceHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -61,7 +64,7 @@ class LoggedInUserAccountArgumentResolver implements HandlerMethodArgumentResolv
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
 		Optional<UserAccount> user = authenticationManager.getCurrentUser();
-		ResolvableType parameterType = ResolvableType.forMethodParameter(parameter);
+		ResolvableType parameterType = getParameterType(parameter);
 
 		return OPTIONAL_OF_USER_ACCOUNT.isAssignableFrom(parameterType) ? user
 				: user.orElseThrow(() -> new ServletRequestBindingException(USER_ACCOUNT_EXPECTED));
@@ -78,7 +81,7 @@ class LoggedInUserAccountArgumentResolver implements HandlerMethodArgumentResolv
 			return false;
 		}
 
-		ResolvableType type = ResolvableType.forMethodParameter(parameter);
+		ResolvableType type = getParameterType(parameter);
 		return USER_ACCOUNT.isAssignableFrom(type) || OPTIONAL_OF_USER_ACCOUNT.isAssignableFrom(type);
 	}
 
@@ -90,4 +93,14 @@ class LoggedInUserAccountArgumentResolver implements HandlerMethodArgumentResolv
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 		resolvers.add(this);
 	}
+
+	/**
+	 * Returns the {@link ResolvableType} of the given {@link MethodParameter}, computing it only once per parameter.
+	 *
+	 * @param parameter must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private ResolvableType getParameterType(MethodParameter parameter) {
+		return parameterTypes.computeIfAbsent(parameter, ResolvableType::forMethodParameter);
+	}
 }
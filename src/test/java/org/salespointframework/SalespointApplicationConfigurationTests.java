@@ -42,6 +42,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.mail.MailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 
 /**
@@ -63,6 +65,9 @@ class SalespointApplicationConfigurationTests extends AbstractIntegrationTests {
 	@Autowired List<LineItemFilter> lineItemFilter;
 
 	@Autowired Environment environment;
+	@Autowired Salespoint salespoint;
+	@Autowired PasswordEncoder passwordEncoder;
+	@Autowired BCryptPasswordEncoder bcryptPasswordEncoder;
 
 	@Test
 	void verifyModularity() throws IOException {
@@ -113,6 +118,18 @@ class SalespointApplicationConfigurationTests extends AbstractIntegrationTests {
 		assertThat(environment.getRequiredProperty("spring.datasource.generate-unique-name", boolean.class)).isTrue();
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	void exposesPasswordEncoderViaDeprecatedConfigurationMethod() {
+
+		assertThat(salespoint.passwordEncoder()).isSameAs(bcryptPasswordEncoder);
+		assertThat(passwordEncoder).isNotSameAs(bcryptPasswordEncoder);
+
+		// Hashes are compatible in both directions
+		assertThat(passwordEncoder.matches("password", bcryptPasswordEncoder.encode("password"))).isTrue();
+		assertThat(bcryptPasswordEncoder.matches("password", passwordEncoder.encode("password"))).isTrue();
+	}
+
 	@EnableSalespoint("Salespoint")
 	static class SalespointSample {}
 }
@@ -81,4 +81,21 @@ class AccountancyOrderEventListenerTests extends AbstractIntegrationTests {
 				.reduce(ZERO_EURO, MonetaryAmount::add)//
 		).isEqualTo(ZERO_EURO);
 	}
+
+	@Test
+	void onlyRollsBackPaymentsOfTheCancelledOrder() {
+
+		accountancy.add(new AccountancyEntry(Money.of(10, EURO), "Unrelated entry"));
+
+		listener.on(OrderCancelled.of(order, "Testing"));
+
+		assertThat(accountancy.findAll()).hasSize(1);
+		assertThat(accountancy.findEntriesFor(order.getId())).isEmpty();
+
+		listener.on(OrderPaid.of(order));
+		listener.on(OrderCancelled.of(order, "Testing"));
+
+		assertThat(accountancy.findAll()).hasSize(3);
+		assertThat(accountancy.findEntriesFor(order.getId())).hasSize(2);
+	}
 }
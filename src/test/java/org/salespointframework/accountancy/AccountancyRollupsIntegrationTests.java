@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.AbstractIntegrationTests;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.core.MoneySum;
+import org.salespointframework.time.Interval;
+import org.salespointframework.time.Intervals;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link AccountancyRollups}.
+ *
+ * @author Oliver Drotbohm
+ */
+class AccountancyRollupsIntegrationTests extends AbstractIntegrationTests {
+
+	static final LocalDateTime REFERENCE = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+	@Autowired Accountancy accountancy;
+	@Autowired AccountancyRollups rollups;
+
+	List<AccountancyEntry> entries = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+
+		add(10, REFERENCE); // start of the first hour and day
+		add(20, REFERENCE.plusMinutes(30));
+		add(-5, REFERENCE.plusMinutes(45));
+		add(30, REFERENCE.plusHours(1)); // hour boundary
+		add(40, REFERENCE.plusHours(5).plusSeconds(1));
+		add(50, REFERENCE.plusDays(1)); // day boundary
+		add(-15, REFERENCE.plusDays(1).plusHours(3).plusMinutes(15));
+		add(60, REFERENCE.plusDays(2).plusMinutes(10));
+		add(70, REFERENCE.plusDays(3));
+	}
+
+	@Test
+	void calculatesHourlySalesVolumeFromRollups() {
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(3)), Duration.ofHours(1));
+	}
+
+	@Test
+	void calculatesDailySalesVolumeFromRollups() {
+
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(3)), Period.ofDays(1));
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(3)), Duration.ofHours(6));
+	}
+
+	@Test
+	void readsRawEntriesForPartialEdges() {
+
+		var interval = Interval.from(REFERENCE.plusMinutes(15)).to(REFERENCE.plusDays(2).plusMinutes(20));
+
+		assertSalesVolumeFromRollups(interval, Period.ofDays(3));
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(2).plusMinutes(20)),
+				Duration.ofHours(1));
+	}
+
+	@Test
+	void fallsBackToRawEntriesForUnalignedBuckets() {
+
+		var interval = Interval.from(REFERENCE).to(REFERENCE.plusHours(3));
+
+		assertThat(rollups.salesVolume(Intervals.divide(interval, Duration.ofMinutes(15)).toList())).isEmpty();
+		assertThat(accountancy.salesVolume(interval, Duration.ofMinutes(15)).values()) //
+				.containsExactlyElementsOf(expectedSalesVolume(interval, Duration.ofMinutes(15)));
+	}
+
+	@Test
+	void rebuildsRollupsEquivalently() {
+
+		rollups.rebuild();
+
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(3)), Duration.ofHours(1));
+		assertSalesVolumeFromRollups(Interval.from(REFERENCE).to(REFERENCE.plusDays(3)), Period.ofDays(1));
+	}
+
+	private void assertSalesVolumeFromRollups(Interval interval, TemporalAmount duration) {
+
+		var expected = expectedSalesVolume(interval, duration);
+
+		assertThat(rollups.salesVolume(Intervals.divide(interval, duration).toList())) //
+				.hasValueSatisfying(it -> assertThat(it).containsExactlyElementsOf(expected));
+		assertThat(accountancy.salesVolume(interval, duration).values()).containsExactlyElementsOf(expected);
+	}
+
+	private List<MonetaryAmount> expectedSalesVolume(Interval interval, TemporalAmount duration) {
+
+		var result = new ArrayList<MonetaryAmount>();
+
+		for (var bucket : Intervals.divide(interval, duration)) {
+
+			var sum = new MoneySum();
+
+			entries.stream() //
+					.filter(it -> bucket.contains(it.getDate().orElseThrow())) //
+					.forEach(it -> sum.add(it.getValue()));
+
+			result.add(sum.toMonetaryAmount().orElse(Currencies.ZERO_EURO));
+		}
+
+		return result;
+	}
+
+	private void add(int amount, LocalDateTime date) {
+
+		var entry = new AccountancyEntry(Money.of(amount, Currencies.EURO));
+		entry.setDate(date);
+
+		entries.add(accountancy.add(entry));
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.Salespoint;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.time.Interval;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Integration tests for the startup of {@link AccountancyRollups} against a database already containing
+ * {@link AccountancyEntry}s.
+ *
+ * @author Oliver Drotbohm
+ */
+class AccountancyRollupsStartupIntegrationTests {
+
+	static final LocalDateTime REFERENCE = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+	@Test
+	void rebuildsRollupsForExistingEntriesOnStartup() {
+
+		var properties = Map.<String, Object> of( //
+				"spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", //
+				"spring.jpa.hibernate.ddl-auto", "update");
+
+		try (var context = run(properties)) {
+
+			var repository = context.getBean(AccountancyEntryRepository.class);
+
+			// Store entries bypassing the Accountancy so that no rollups are created for them
+			repository.save(createEntry(10, REFERENCE));
+			repository.save(createEntry(20, REFERENCE.plusMinutes(30)));
+		}
+
+		try (var context = run(properties)) {
+
+			var interval = Interval.from(REFERENCE).to(REFERENCE.plusDays(1));
+
+			assertThat(context.getBean(AccountancyRollups.class).salesVolume(List.of(interval))) //
+					.hasValue(List.of(Money.of(30, Currencies.EURO)));
+		}
+	}
+
+	private static ConfigurableApplicationContext run(Map<String, Object> properties) {
+
+		return new SpringApplicationBuilder(Salespoint.class) //
+				.properties(properties) //
+				.run();
+	}
+
+	private static AccountancyEntry createEntry(int amount, LocalDateTime date) {
+
+		var entry = new AccountancyEntry(Money.of(amount, Currencies.EURO));
+		entry.setDate(date);
+
+		return entry;
+	}
+}
@@ -15,13 +15,19 @@
  */
 package org.salespointframework.accountancy;
 
+import static org.assertj.core.api.Assertions.*;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.moduliths.test.ModuleTest;
 import org.moduliths.test.ModuleTest.BootstrapMode;
+import org.salespointframework.core.ContinuationToken;
 import org.salespointframework.core.Currencies;
 import org.salespointframework.order.Order;
 import org.salespointframework.order.OrderIdentifier;
@@ -68,6 +74,27 @@ class AccountancyTests {
 		}
 	}
 
+	@Test
+	void iteratesEntriesUsingContinuationTokens() {
+
+		List<AccountancyEntry> entries = new ArrayList<>();
+		var slice = accountancyEntries.findSlice(3);
+		entries.addAll(slice.getContent());
+
+		while (slice.getContinuationToken().isPresent()) {
+
+			var token = ContinuationToken.parse(slice.getContinuationToken().get().toString());
+
+			slice = accountancyEntries.findSlice(token, 3);
+			entries.addAll(slice.getContent());
+		}
+
+		assertThat(entries).hasSize(10) //
+				.containsExactlyInAnyOrderElementsOf(accountancyEntries.findAll()) //
+				.isSortedAccordingTo(Comparator.comparing((AccountancyEntry it) -> it.getDate().orElseThrow()) //
+						.thenComparing(it -> it.getId().getIdentifier()));
+	}
+
 	@Test
 	void select() {
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import javax.money.MonetaryAmount;
+import javax.persistence.EntityManager;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.AbstractIntegrationTests;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.time.Interval;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link ClosedPeriod}s and {@link Accountancy#balanceAt(LocalDateTime)}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ClosedPeriodIntegrationTests extends AbstractIntegrationTests {
+
+	static final LocalDateTime REFERENCE = LocalDateTime.of(2002, 1, 1, 0, 0);
+
+	@Autowired Accountancy accountancy;
+	@Autowired EntityManager em;
+
+	MonetaryAmount initialBalance;
+
+	@BeforeEach
+	void setUp() {
+
+		this.initialBalance = accountancy.balanceAt(REFERENCE.minusNanos(1));
+
+		add(10, REFERENCE);
+		add(20, REFERENCE.plusDays(10));
+		add(-5, REFERENCE.plusMonths(1)); // end of January
+		add(40, REFERENCE.plusMonths(1).plusDays(3));
+		add(50, REFERENCE.plusMonths(2).plusDays(1));
+	}
+
+	@Test
+	void calculatesBalanceWithoutClosedPeriods() {
+
+		assertThat(accountancy.balanceAt(REFERENCE.plusDays(10))).isEqualTo(balanceOf(30));
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(3))).isEqualTo(balanceOf(115));
+	}
+
+	@Test
+	void calculatesBalanceStartingFromClosedPeriod() {
+
+		var january = accountancy.closePeriod(Interval.from(REFERENCE).to(REFERENCE.plusMonths(1)));
+
+		assertThat(january.getBalance()).isEqualTo(balanceOf(25));
+		assertThat(january.getInterval()).isEqualTo(Interval.from(REFERENCE).to(REFERENCE.plusMonths(1)));
+
+		var february = accountancy.closePeriod(Interval.from(REFERENCE.plusMonths(1)).to(REFERENCE.plusMonths(2)));
+
+		assertThat(february.getBalance()).isEqualTo(balanceOf(65));
+
+		assertThat(accountancy.balanceAt(REFERENCE.plusDays(10))).isEqualTo(balanceOf(30));
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(1))).isEqualTo(balanceOf(25));
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(1).plusDays(5))).isEqualTo(balanceOf(65));
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(3))).isEqualTo(balanceOf(115));
+	}
+
+	@Test
+	void keepsManagedEntriesAttachedWhenCalculatingBalance() {
+
+		var entry = add(1, REFERENCE.plusMonths(2).plusDays(2));
+
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(3))).isEqualTo(balanceOf(116));
+		assertThat(em.contains(entry)).isTrue();
+	}
+
+	@Test
+	void rejectsEntriesDatedInClosedPeriod() {
+
+		accountancy.closePeriod(Interval.from(REFERENCE).to(REFERENCE.plusMonths(1)));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> add(1, REFERENCE.plusDays(5)));
+		assertThatIllegalArgumentException().isThrownBy(() -> add(1, REFERENCE.plusMonths(1)));
+
+		add(1, REFERENCE.plusMonths(1).plusNanos(1));
+
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(1).plusDays(1))).isEqualTo(balanceOf(26));
+	}
+
+	@Test
+	void rejectsOverlappingPeriods() {
+
+		accountancy.closePeriod(Interval.from(REFERENCE).to(REFERENCE.plusMonths(1)));
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> accountancy.closePeriod(Interval.from(REFERENCE.plusDays(10)).to(REFERENCE.plusMonths(2))));
+	}
+
+	@Test
+	void rejectsEntriesDatedBeforeClosedPeriod() {
+
+		accountancy.closePeriod(Interval.from(REFERENCE.plusMonths(2)).to(REFERENCE.plusMonths(3)));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> add(1, REFERENCE.plusMonths(1).plusDays(10)));
+		assertThat(accountancy.balanceAt(REFERENCE.plusMonths(3))).isEqualTo(balanceOf(115));
+	}
+
+	@Test
+	void rejectsPeriodsStartingBeforeLastClosedOne() {
+
+		accountancy.closePeriod(Interval.from(REFERENCE.plusMonths(2)).to(REFERENCE.plusMonths(3)));
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> accountancy.closePeriod(Interval.from(REFERENCE).to(REFERENCE.plusMonths(1))));
+
+		accountancy.closePeriod(Interval.from(REFERENCE.plusMonths(3)).to(REFERENCE.plusMonths(4)));
+	}
+
+	@Test
+	void rejectsPeriodEndingInTheFuture() {
+
+		var now = LocalDateTime.now();
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> accountancy.closePeriod(Interval.from(now).to(now.plusYears(1))));
+	}
+
+	private MonetaryAmount balanceOf(int amount) {
+		return initialBalance.add(Money.of(amount, Currencies.EURO));
+	}
+
+	private AccountancyEntry add(int amount, LocalDateTime date) {
+
+		var entry = new AccountancyEntry(Money.of(amount, Currencies.EURO));
+		entry.setDate(date);
+
+		return accountancy.add(entry);
+	}
+}
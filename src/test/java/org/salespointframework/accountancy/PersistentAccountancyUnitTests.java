@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.core.EntityStreams;
+import org.salespointframework.time.BusinessTime;
+import org.salespointframework.time.Interval;
+import org.salespointframework.time.Intervals;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for {@link PersistentAccountancy}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PersistentAccountancyUnitTests {
+
+	static final LocalDateTime REFERENCE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+	AccountancyEntryRepository repository;
+	PersistentAccountancy accountancy;
+
+	@BeforeEach
+	void setUp() {
+
+		this.repository = mock(AccountancyEntryRepository.class);
+		this.accountancy = new PersistentAccountancy(mock(BusinessTime.class), repository, mock(EntityStreams.class),
+				mock(AccountancyRollups.class), mock(ClosedPeriodRepository.class), new ReportExecutor(
+						new AccountancyProperties(false, null), mock(PlatformTransactionManager.class)));
+	}
+
+	@Test
+	void calculatesSalesVolumeWithASingleQuery() {
+
+		var interval = Interval.from(REFERENCE).to(REFERENCE.plusDays(1).plusMinutes(30));
+		var entries = List.of( //
+				entry(10, REFERENCE), // start of the interval
+				entry(20, REFERENCE.plusMinutes(30)), //
+				entry(30, REFERENCE.plusHours(1)), // bucket boundary
+				entry(40, REFERENCE.plusHours(5).plusSeconds(1)), //
+				entry(50, REFERENCE.plusDays(1).plusMinutes(30))); // end of the interval, last bucket is shorter
+
+		doReturn(Streamable.of(entries)).when(repository).findByDateIn(interval);
+
+		var result = accountancy.salesVolume(interval, Duration.ofHours(1));
+
+		verify(repository, times(1)).findByDateIn(interval);
+
+		assertThat(result.keySet()).containsExactlyElementsOf(Intervals.divide(interval, Duration.ofHours(1)));
+
+		// Equivalent to summing up the entries contained in each of the intervals
+		result.forEach((bucket, total) -> {
+
+			var expected = entries.stream() //
+					.filter(it -> bucket.contains(it.getDate().orElseThrow())) //
+					.map(AccountancyEntry::getValue) //
+					.reduce(Money.of(0, Currencies.EURO), MonetaryAmount::add);
+
+			assertThat(total).isEqualTo(expected);
+		});
+
+		assertThat(result.get(Interval.from(REFERENCE).to(REFERENCE.plusHours(1)))).isEqualTo(euros(60));
+		assertThat(result.get(Interval.from(REFERENCE.plusHours(1)).to(REFERENCE.plusHours(2)))).isEqualTo(euros(30));
+		assertThat(result.values().stream().filter(MonetaryAmount::isZero).collect(Collectors.toList())).hasSize(21);
+	}
+
+	private static AccountancyEntry entry(int amount, LocalDateTime date) {
+
+		var entry = new AccountancyEntry(euros(amount));
+		entry.setDate(date);
+
+		return entry;
+	}
+
+	private static MonetaryAmount euros(int amount) {
+		return Money.of(amount, Currencies.EURO);
+	}
+}
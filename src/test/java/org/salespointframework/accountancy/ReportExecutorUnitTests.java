@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.time.Interval;
+import org.salespointframework.time.Intervals;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ReportExecutor}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReportExecutorUnitTests {
+
+	static final Interval INTERVAL = Interval.from(LocalDateTime.of(2020, 1, 1, 0, 0)).withLength(Duration.ofDays(7));
+	static final List<Interval> BUCKETS = Intervals.divide(INTERVAL, Duration.ofHours(1)).toList();
+
+	PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	ReportExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.destroy();
+	}
+
+	@Test
+	void evaluatesBucketsInCallingThreadByDefault() {
+
+		this.executor = executor(false, 4);
+
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+		var result = executor.execute(BUCKETS, range -> {
+
+			threads.add(Thread.currentThread());
+
+			return range;
+		});
+
+		assertThat(result).containsExactlyElementsOf(BUCKETS);
+		assertThat(threads).containsExactly(Thread.currentThread());
+		verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+	}
+
+	@Test
+	void evaluatesBucketsInCallingThreadIfTransactionIsActive() {
+
+		this.executor = executor(true, 4);
+
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+
+			var result = executor.execute(BUCKETS, range -> {
+
+				threads.add(Thread.currentThread());
+
+				return range;
+			});
+
+			assertThat(result).containsExactlyElementsOf(BUCKETS);
+			assertThat(threads).containsExactly(Thread.currentThread());
+
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		// Participates in the caller's transaction
+		verify(transactionManager) //
+				.getTransaction(argThat(it -> it.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRED));
+	}
+
+	@Test
+	void evaluatesRangesInParallelKeepingBucketOrder() {
+
+		this.executor = executor(true, 4);
+
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+		var ranges = new AtomicInteger();
+
+		var result = executor.execute(BUCKETS, range -> {
+
+			threads.add(Thread.currentThread());
+			ranges.incrementAndGet();
+
+			return range;
+		});
+
+		assertThat(result).containsExactlyElementsOf(BUCKETS);
+		assertThat(threads).doesNotContain(Thread.currentThread());
+		assertThat(ranges.get()).isGreaterThan(1);
+
+		// One read-only transaction per range
+		verify(transactionManager, times(ranges.get())) //
+				.getTransaction(argThat(TransactionDefinition::isReadOnly));
+	}
+
+	@Test
+	void limitsConcurrentlyEvaluatedRanges() {
+
+		this.executor = executor(true, 2);
+
+		var current = new AtomicInteger();
+		var maximum = new AtomicInteger();
+
+		executor.execute(BUCKETS, range -> {
+
+			maximum.accumulateAndGet(current.incrementAndGet(), Math::max);
+
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			}
+
+			current.decrementAndGet();
+
+			return range;
+		});
+
+		assertThat(maximum.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void propagatesExceptions() {
+
+		this.executor = executor(true, 4);
+
+		assertThatIllegalStateException().isThrownBy(() -> executor.execute(BUCKETS, range -> {
+			throw new IllegalStateException();
+		}));
+	}
+
+	private ReportExecutor executor(boolean parallel, int parallelism) {
+		return new ReportExecutor(new AccountancyProperties(parallel, parallelism), transactionManager);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hibernate.jpa.QueryHints.*;
+import static org.mockito.Mockito.*;
+
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EntityStreams}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EntityStreamsUnitTests {
+
+	EntityManager em = mock(EntityManager.class);
+
+	@Test
+	void appliesConfiguredFetchSizeToStreamedQuery() {
+
+		var query = query();
+
+		new EntityStreams(em, new StreamingProperties(50, false)).stream(query).close();
+
+		verify(query).setHint(HINT_FETCH_SIZE, 50);
+	}
+
+	@Test
+	void defaultsFetchSize() {
+
+		var query = query();
+
+		new EntityStreams(em, new StreamingProperties(null, false)).stream(query).close();
+
+		verify(query).setHint(HINT_FETCH_SIZE, 100);
+	}
+
+	@Test
+	void detachesEntitiesOnceConsumed() {
+
+		var query = query();
+		var entity = new Object();
+
+		when(query.getResultStream()).thenReturn(Stream.of(entity));
+
+		try (var stream = new EntityStreams(em, new StreamingProperties(null, false)).stream(query)) {
+			assertThat(stream).containsExactly(entity);
+		}
+
+		verify(em).detach(entity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TypedQuery<Object> query() {
+
+		TypedQuery<Object> query = mock(TypedQuery.class);
+
+		when(query.setHint(anyString(), any())).thenReturn(query);
+		when(query.getResultStream()).thenReturn(Stream.empty());
+
+		return query;
+	}
+}
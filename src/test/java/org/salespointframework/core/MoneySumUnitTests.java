@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MoneySum}.
+ *
+ * @author Oliver Drotbohm
+ */
+class MoneySumUnitTests {
+
+	@Test
+	void sumsUpAmountsLikeReduction() {
+
+		var amounts = Stream.of(Money.of(1.5, "EUR"), Money.of(2.25, "EUR"), Money.of(-0.75, "EUR"));
+
+		assertThat(amounts.collect(MoneySum.summing())).hasValue(Money.of(3, "EUR"));
+	}
+
+	@Test
+	void returnsEmptyOptionalForEmptySource() {
+		assertThat(Stream.<MonetaryAmount> empty().collect(MoneySum.summing())).isEmpty();
+	}
+
+	@Test
+	void rejectsCurrencyMismatch() {
+
+		var sum = new MoneySum().add(Money.of(1, "EUR"));
+
+		assertThatExceptionOfType(MonetaryException.class) //
+				.isThrownBy(() -> sum.add(Money.of(1, "USD")));
+		assertThatExceptionOfType(MonetaryException.class) //
+				.isThrownBy(() -> sum.combine(new MoneySum().add(Money.of(1, "USD"))));
+	}
+
+	@Test
+	void sumsUpParallelStreams() {
+
+		var expected = IntStream.rangeClosed(1, 10_000) //
+				.mapToObj(it -> (MonetaryAmount) Money.of(it, "EUR")) //
+				.reduce(MonetaryAmount::add);
+
+		var result = IntStream.rangeClosed(1, 10_000).parallel() //
+				.mapToObj(it -> (MonetaryAmount) Money.of(it, "EUR")) //
+				.collect(MoneySum.summing());
+
+		assertThat(result).isEqualTo(expected);
+	}
+}
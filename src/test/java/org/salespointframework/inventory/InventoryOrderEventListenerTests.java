@@ -18,6 +18,10 @@ package org.salespointframework.inventory;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +39,7 @@ import org.salespointframework.useraccount.UserAccountTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 
 /**
  * Integration tests for {@link InventoryOrderEventListener}.
@@ -42,6 +47,7 @@ import org.springframework.test.context.ContextConfiguration;
  * @author Oliver Gierke
  */
 @ContextConfiguration(classes = InventoryOrderEventListenerTests.Config.class)
+@TestPropertySource(properties = "salespoint.inventory.enable-reservations=true")
 class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 
 	@Autowired InventoryOrderEventListener listener;
@@ -49,6 +55,8 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 	@Autowired UserAccountManager userAccounts;
 	@Autowired Catalog<Product> products;
 	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired EntityManager em;
+	@Autowired InventoryReservations reservations;
 
 	Product iPad, iPadToFilter, macBook;
 
@@ -90,6 +98,55 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 				.isThrownBy(() -> listener.on(OrderCompleted.of(order)));
 	}
 
+	@Test
+	void decreasesStockForAllOrderLinesOnCompletion() {
+
+		var user = userAccounts.create("username", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+
+		var cart = new Cart();
+		cart.addOrUpdateItem(iPad, 2);
+		cart.addOrUpdateItem(iPadToFilter, 1);
+		cart.addOrUpdateItem(macBook, 1);
+
+		var order = cart.createOrderFor(user);
+		order.addOrderLine(iPad, Quantity.of(3));
+
+		// Load the items upfront to verify they get refreshed
+		var ipadItem = inventory.findByProduct(iPad).orElseThrow();
+
+		listener.on(OrderCompleted.of(order));
+
+		assertThat(ipadItem.getQuantity()).isEqualTo(Quantity.of(5));
+		assertThat(inventory.findByProduct(iPad).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(5));
+		assertThat(inventory.findByProduct(macBook).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(0));
+	}
+
+	@Test
+	void doesNotConsumeStockReservedForOtherOrdersOnCompletion() {
+
+		var user = userAccounts.create("username", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+		var item = inventory.findByProduct(iPad).orElseThrow();
+
+		var other = new Cart();
+		other.addOrUpdateItem(iPad, 9);
+
+		reservations.reserve(other.createOrderFor(user).getId(), Map.of(item, Quantity.of(9)));
+
+		var cart = new Cart();
+		cart.addOrUpdateItem(iPad, 2);
+
+		assertThatExceptionOfType(OrderCompletionFailure.class) //
+				.isThrownBy(() -> listener.on(OrderCompleted.of(cart.createOrderFor(user))));
+		assertThat(inventory.findByProduct(iPad).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(10));
+
+		var single = new Cart();
+		single.addOrUpdateItem(iPad, 1);
+
+		listener.on(OrderCompleted.of(single.createOrderFor(user)));
+
+		assertThat(inventory.findByProduct(iPad).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(9));
+	}
+
 	@Test // #230
 	void restocksForCompletedOrderOnCancellation() {
 
@@ -107,4 +164,33 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 				.map(UniqueInventoryItem::getQuantity) //
 		).hasValue(Quantity.of(11));
 	}
+
+	@Test
+	void refreshesLoadedItemsOnCancellation() {
+
+		var user = userAccounts.create("username", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+
+		var cart = new Cart();
+		cart.addOrUpdateItem(iPad, 1);
+
+		var order = spy(cart.createOrderFor(user));
+		when(order.isCompleted()).thenReturn(true);
+
+		// Simulate a concurrent completion decreasing the stock after the item was loaded
+		var item = inventory.findByProduct(iPad).orElseThrow();
+		inventory.tryDecrease(iPad.getId(), Quantity.of(2));
+
+		listener.on(OrderCancelled.of(order, "No reason!"));
+
+		assertThat(item.getQuantity()).isEqualTo(Quantity.of(9));
+
+		// Saving the refreshed item must not overwrite the decrease
+		inventory.save(item);
+		em.flush();
+		em.clear();
+
+		assertThat(inventory.findByProduct(iPad) //
+				.map(UniqueInventoryItem::getQuantity) //
+		).hasValue(Quantity.of(9));
+	}
 }
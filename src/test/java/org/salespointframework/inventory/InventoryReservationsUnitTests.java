@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderIdentifier;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.time.BusinessTime;
+import org.salespointframework.useraccount.UserAccount;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link InventoryReservations}.
+ *
+ * @author Oliver Drotbohm
+ */
+class InventoryReservationsUnitTests {
+
+	BusinessTime businessTime;
+	LocalDateTime now;
+
+	InventoryReservations reservations;
+	UniqueInventoryItem item;
+
+	@BeforeEach
+	void setUp() {
+
+		this.now = LocalDateTime.now();
+		this.businessTime = mock(BusinessTime.class);
+		doAnswer(__ -> now).when(businessTime).getTime();
+
+		this.reservations = new InventoryReservations(businessTime,
+				new InventoryProperties(false, true, Duration.ofMinutes(10)));
+		this.item = new UniqueInventoryItem(new Product("iPad", Money.of(500, Currencies.EURO)), Quantity.of(10));
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservations.destroy();
+	}
+
+	@Test
+	void reservationsReduceAvailableToPromise() {
+
+		reservations.reserve(newOrderIdentifier(), Map.of(item, Quantity.of(3)));
+		reservations.reserve(newOrderIdentifier(), Map.of(item, Quantity.of(2)));
+
+		assertThat(reservations.getReservedQuantity(item.getProduct().getId())).isEqualTo(Quantity.of(5));
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(5));
+	}
+
+	@Test
+	void excludesHoldsOfGivenOrderFromReservedQuantity() {
+
+		var order = newOrderIdentifier();
+
+		reservations.reserve(order, Map.of(item, Quantity.of(3)));
+		reservations.reserve(newOrderIdentifier(), Map.of(item, Quantity.of(2)));
+
+		assertThat(reservations.getReservedQuantityExcluding(item.getProduct().getId(), order))
+				.isEqualTo(Quantity.of(2));
+	}
+
+	@Test
+	void rejectsReservationExceedingAvailableToPromise() {
+
+		reservations.reserve(newOrderIdentifier(), Map.of(item, Quantity.of(8)));
+
+		var order = newOrderIdentifier();
+
+		assertThatExceptionOfType(InsufficientStockException.class) //
+				.isThrownBy(() -> reservations.reserve(order, Map.of(item, Quantity.of(3)))) //
+				.satisfies(it -> assertThat(it.getProducts()).containsExactly(item.getProduct().getId()));
+
+		assertThat(reservations.hasReservationsFor(order)).isFalse();
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(2));
+	}
+
+	@Test
+	void reservingAgainReplacesPreviousReservationsOfTheOrder() {
+
+		var order = newOrderIdentifier();
+
+		reservations.reserve(order, Map.of(item, Quantity.of(8)));
+		reservations.reserve(order, Map.of(item, Quantity.of(9)));
+
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(1));
+	}
+
+	@Test
+	void releasesReservationsOfOrder() {
+
+		var order = newOrderIdentifier();
+
+		reservations.reserve(order, Map.of(item, Quantity.of(4)));
+		reservations.release(order);
+
+		assertThat(reservations.hasReservationsFor(order)).isFalse();
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(10));
+	}
+
+	@Test
+	void expiresReservationsAfterConfiguredTimeout() {
+
+		var order = newOrderIdentifier();
+
+		reservations.reserve(order, Map.of(item, Quantity.of(4)));
+
+		now = now.plusMinutes(9);
+
+		assertThat(reservations.hasReservationsFor(order)).isTrue();
+
+		now = now.plusMinutes(1);
+
+		assertThat(reservations.hasReservationsFor(order)).isFalse();
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(10));
+	}
+
+	@Test
+	void releasesReservationsIfTransactionRollsBack() {
+
+		var order = newOrderIdentifier();
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			reservations.reserve(order, Map.of(item, Quantity.of(4)));
+
+			assertThat(reservations.hasReservationsFor(order)).isTrue();
+
+			TransactionSynchronizationManager.getSynchronizations() //
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(reservations.hasReservationsFor(order)).isFalse();
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(10));
+	}
+
+	@Test
+	void keepsReservationsIfTransactionCommits() {
+
+		var order = newOrderIdentifier();
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			reservations.reserve(order, Map.of(item, Quantity.of(4)));
+
+			TransactionSynchronizationManager.getSynchronizations() //
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(reservations.hasReservationsFor(order)).isTrue();
+	}
+
+	@Test
+	void concurrentReservationsAndReleasesForTheSameOrderDontLeakHolds() throws Exception {
+
+		var order = newOrderIdentifier();
+		var other = new UniqueInventoryItem(new Product("MacBook", Money.of(1500, Currencies.EURO)), Quantity.of(10));
+		var executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			var tasks = IntStream.range(0, 400) //
+					.<Callable<Object>> mapToObj(i -> () -> {
+
+						switch (i % 3) {
+							case 0:
+								reservations.reserve(order, Map.of(item, Quantity.of(1)));
+								break;
+							case 1:
+								reservations.reserve(order, Map.of(other, Quantity.of(1)));
+								break;
+							default:
+								reservations.release(order);
+						}
+
+						return null;
+
+					}).collect(Collectors.toList());
+
+			for (var future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+
+		// Reserving replaces previous reservations, so at most one of the items is reserved
+		var reserved = reservations.getReservedQuantity(item.getProduct().getId()) //
+				.add(reservations.getReservedQuantity(other.getProduct().getId()));
+
+		assertThat(reserved.isLessThan(Quantity.of(2))).isTrue();
+
+		reservations.release(order);
+
+		assertThat(reservations.getAvailableToPromise(item)).isEqualTo(Quantity.of(10));
+		assertThat(reservations.getAvailableToPromise(other)).isEqualTo(Quantity.of(10));
+	}
+
+	@Test
+	void purgesExpiredReservations() {
+
+		var order = newOrderIdentifier();
+
+		reservations.reserve(order, Map.of(item, Quantity.of(4)));
+
+		now = now.plusMinutes(10);
+
+		reservations.purgeExpired();
+
+		now = now.minusMinutes(10);
+
+		// Still within the timeout but purged already
+		assertThat(reservations.hasReservationsFor(order)).isFalse();
+	}
+
+	@Test
+	void defaultsReservationTimeout() {
+		assertThat(new InventoryProperties(false, true, null).getReservationTimeout()).isEqualTo(Duration.ofMinutes(15));
+	}
+
+	private static OrderIdentifier newOrderIdentifier() {
+		return new Order(mock(UserAccount.class)).getId();
+	}
+}
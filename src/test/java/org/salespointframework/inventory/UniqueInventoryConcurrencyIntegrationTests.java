@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moduliths.test.ModuleTest;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Cookie;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for concurrent stock updates via {@link UniqueInventory#tryDecrease(ProductIdentifier, Quantity)}.
+ * Deliberately not transactional as the individual updates need to be committed.
+ *
+ * @author Oliver Drotbohm
+ */
+@ModuleTest(extraIncludes = "org.salespointframework.catalog")
+class UniqueInventoryConcurrencyIntegrationTests {
+
+	private static final int STOCK = 100;
+	private static final int THREADS = 8;
+	private static final int ATTEMPTS_PER_THREAD = 25;
+
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired Catalog<Product> catalog;
+
+	Cookie cookie;
+	UniqueInventoryItem item;
+
+	@BeforeEach
+	void setUp() {
+
+		this.cookie = catalog.save(new Cookie("Concurrency cookie", Currencies.ZERO_EURO));
+		this.item = inventory.save(new UniqueInventoryItem(cookie, Quantity.of(STOCK)));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		inventory.delete(item);
+		catalog.delete(cookie);
+	}
+
+	@Test
+	void conditionalDecreaseNeverOversells() throws Exception {
+
+		var successes = new AtomicInteger();
+
+		runConcurrently(() -> {
+
+			if (inventory.tryDecrease(cookie.getId(), Quantity.of(1))) {
+				successes.incrementAndGet();
+			}
+
+			return null;
+		});
+
+		assertThat(successes.get()).isEqualTo(STOCK);
+		assertThat(currentStock()).isEqualTo(Quantity.of(0));
+	}
+
+	private void runConcurrently(Callable<Object> attempt) throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		var tasks = IntStream.range(0, THREADS * ATTEMPTS_PER_THREAD) //
+				.mapToObj(__ -> attempt) //
+				.collect(Collectors.toList());
+
+		try {
+
+			// Fails the test on any exception raised by an attempt
+			for (var future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+
+	private Quantity currentStock() {
+		return inventory.findByProductIdentifier(cookie.getId()).map(InventoryItem::getQuantity).orElseThrow();
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.salespointframework.core.Currencies.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.order.ChargeLine.AttachedChargeLine;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.useraccount.UserAccount;
+
+/**
+ * Unit tests for the indexed line lookups of {@link Order}s with a large number of {@link OrderLine}s.
+ *
+ * @author Oliver Drotbohm
+ */
+class OrderLineLookupUnitTests {
+
+	static final int NUMBER_OF_LINES = 1_000;
+	static final int NUMBER_OF_PRODUCTS = 100;
+
+	List<Product> products;
+	Order order;
+
+	@BeforeEach
+	void setUp() {
+
+		this.products = IntStream.range(0, NUMBER_OF_PRODUCTS) //
+				.mapToObj(it -> new Product("Product " + it, Money.of(10, EURO))) //
+				.collect(Collectors.toList());
+
+		this.order = new Order(mock(UserAccount.class));
+
+		for (int i = 0; i < NUMBER_OF_LINES; i++) {
+
+			var orderLine = order.addOrderLine(products.get(i % NUMBER_OF_PRODUCTS), Quantity.of(1));
+
+			order.addChargeLine(Money.of(1, EURO), "Service", orderLine);
+			order.addChargeLine(Money.of(2, EURO), "Other service", orderLine);
+		}
+	}
+
+	@Test
+	void looksUpChargeLinesForEachOrderLine() {
+
+		order.getOrderLines().forEach(it -> {
+
+			var attached = order.getAllChargeLines() //
+					.filter(AttachedChargeLine.class::isInstance) //
+					.map(AttachedChargeLine.class::cast) //
+					.filter(line -> line.belongsTo(it)) //
+					.toList();
+
+			assertThat(order.getChargeLines(it)).hasSize(2).containsExactlyInAnyOrderElementsOf(attached);
+		});
+	}
+
+	@Test
+	void looksUpOrderLinesForEachProduct() {
+
+		products.forEach(it -> {
+
+			var lines = order.getOrderLines().filter(line -> line.refersTo(it)).toList();
+
+			assertThat(order.getOrderLines(it)) //
+					.hasSize(NUMBER_OF_LINES / NUMBER_OF_PRODUCTS) //
+					.containsExactlyInAnyOrderElementsOf(lines);
+		});
+	}
+
+	@Test
+	void removesAllOrderLines() {
+
+		new ArrayList<>(order.getOrderLines().toList()).forEach(order::remove);
+
+		assertThat(order.getOrderLines()).isEmpty();
+		assertThat(order.getAllChargeLines()).isEmpty();
+		assertThat(order.getTotal()).isEqualTo(Money.of(0, EURO));
+		products.forEach(it -> assertThat(order.getOrderLines(it)).isEmpty());
+	}
+
+	@Test
+	void keepsLookupsInSyncWithLineChanges() {
+
+		var orderLine = order.getOrderLines().toList().get(0);
+		var product = products.get(0);
+
+		order.removeChargeLinesFor(orderLine);
+
+		assertThat(order.getChargeLines(orderLine)).isEmpty();
+		assertThat(order.getAllChargeLines()).hasSize(2 * NUMBER_OF_LINES - 2);
+
+		var chargeLine = order.addChargeLine(Money.of(5, EURO), "New service", orderLine);
+
+		assertThat(order.getChargeLines(orderLine)).containsExactly(chargeLine);
+
+		order.remove(orderLine);
+
+		assertThat(order.getChargeLines(orderLine)).isEmpty();
+		assertThat(order.getOrderLines(product)).hasSize(NUMBER_OF_LINES / NUMBER_OF_PRODUCTS - 1) //
+				.doesNotContain(orderLine);
+	}
+}
@@ -178,6 +178,71 @@ class OrderManagerTests extends AbstractIntegrationTests {
 		assertThat(openOrders.iterator().next(), is(openOrder));
 	}
 
+	@Test
+	void loadsLinesOfOrdersUsingFetchPlan() {
+
+		Cookie cookie = catalog.save(new Cookie("Double choc", Money.of(1.2, Currencies.EURO)));
+		OrderLine orderLine = order.addOrderLine(cookie, Quantity.of(10));
+		order.addOrderLine(cookie, Quantity.of(5));
+		order.addChargeLine(Money.of(2, Currencies.EURO), "Shipping");
+		order.addChargeLine(Money.of(1, Currencies.EURO), "Gift wrapping", orderLine);
+
+		orderManager.save(order);
+
+		em.flush();
+		em.clear();
+
+		var util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+		assertThat(orderManager.findBy(user, OrderFetchPlan.WITH_LINES)).hasSize(1).allSatisfy(it -> {
+			assertThat(util.isLoaded(it, "orderLines")).isTrue();
+			assertThat(util.isLoaded(it, "chargeLines")).isTrue();
+			assertThat(util.isLoaded(it, "attachedChargeLines")).isTrue();
+			assertThat(it.getOrderLines()).hasSize(2);
+		});
+
+		em.clear();
+
+		assertThat(orderManager.findBy(user)).hasSize(1).allSatisfy(it -> {
+			assertThat(util.isLoaded(it, "orderLines")).isFalse();
+			assertThat(it.getTotal()).isEqualTo(Money.of(21, Currencies.EURO));
+		});
+	}
+
+	@Test
+	void iteratesOrdersUsingContinuationTokens() {
+
+		IntStream.range(0, 7).forEach(__ -> orderManager.save(new Order(user, Cash.CASH)));
+
+		var first = orderManager.findSlice(5);
+
+		assertThat(first.getContent()).hasSize(5);
+		assertThat(first.hasNext()).isTrue();
+		assertThat(first.getContinuationToken()).isPresent();
+
+		var second = orderManager.findSlice(first.getContinuationToken().orElseThrow(), 5);
+
+		assertThat(second.getContent()).hasSize(2).doesNotContainAnyElementsOf(first.getContent());
+		assertThat(second.hasNext()).isFalse();
+		assertThat(second.getContinuationToken()).isEmpty();
+	}
+
+	@Test
+	void streamsOrdersDetachingThemOnceConsumed() {
+
+		IntStream.range(0, 3).forEach(__ -> orderManager.save(new Order(user, Cash.CASH)));
+
+		em.flush();
+		em.clear();
+
+		try (var stream = orderManager.streamAll()) {
+
+			assertThat(stream.peek(it -> assertThat(em.contains(it)).isTrue())) //
+					.hasSize(3) //
+					.allSatisfy(it -> assertThat(em.contains(it)).isFalse());
+		}
+	}
+
 	@Test // #219
 	void ordersCanBeDeleted() {
 
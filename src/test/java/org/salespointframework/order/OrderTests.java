@@ -20,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.salespointframework.core.Currencies.*;
 import static org.salespointframework.order.OrderStatus.*;
 
+import javax.money.MonetaryException;
+import javax.persistence.EntityManager;
+
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +52,7 @@ class OrderTests {
 	@Autowired UserAccountManager userAccountManager;
 	@Autowired OrderManager<Order> orderManager;
 	@Autowired Catalog<Product> catalog;
+	@Autowired EntityManager em;
 
 	UserAccount user;
 	Order order;
@@ -178,6 +182,60 @@ class OrderTests {
 		assertThat(order.getChargeLines(firstOrderLine)).isEmpty();
 	}
 
+	@Test
+	void maintainsTotalOnLineChanges() {
+
+		Product product = catalog.save(new Product("Some product", Money.of(10, EURO)));
+
+		assertThat(order.getTotal()).isEqualTo(ZERO_EURO);
+
+		OrderLine orderLine = order.addOrderLine(product, Quantity.of(3));
+		ChargeLine chargeLine = order.addChargeLine(Money.of(5, EURO), "Shipping");
+		order.addChargeLine(Money.of(2, EURO), "Gift wrapping", orderLine);
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(37, EURO));
+
+		order.remove(chargeLine);
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(32, EURO));
+
+		order.remove(orderLine);
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(0, EURO));
+	}
+
+	@Test
+	void initializesTotalFromFirstLineAndRejectsLinesInOtherCurrencies() {
+
+		order.addChargeLine(Money.of(5, "USD"), "Shipping");
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(5, "USD"));
+
+		assertThatExceptionOfType(MonetaryException.class) //
+				.isThrownBy(() -> order.addChargeLine(Money.of(2, EURO), "Gift wrapping"));
+
+		assertThat(order.getChargeLines()).hasSize(1);
+		assertThat(order.getTotal()).isEqualTo(Money.of(5, "USD"));
+	}
+
+	@Test
+	void persistsTotal() {
+
+		Product product = catalog.save(new Product("Some product", Money.of(10, EURO)));
+
+		order.addOrderLine(product, Quantity.of(2));
+		order.addChargeLine(Money.of(5, EURO), "Shipping");
+
+		var id = orderManager.save(order).getId();
+
+		em.flush();
+		em.clear();
+
+		assertThat(orderManager.get(id)).hasValueSatisfying(it -> {
+			assertThat(it.getTotal()).isEqualTo(Money.of(25, EURO));
+		});
+	}
+
 	@Test // #226
 	void rejectsChargeLineForOrderLineIndexOutOfBounds() {
 
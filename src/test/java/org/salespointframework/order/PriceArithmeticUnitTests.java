@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.core.Currencies;
+
+/**
+ * Unit tests for {@link PriceArithmetic} verifying the scaled {@code long} arithmetic produces the same results as
+ * {@link Money}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PriceArithmeticUnitTests {
+
+	Random random = new Random(42);
+
+	@Test
+	void multipliesLikeMoney() {
+
+		for (int i = 0; i < 10_000; i++) {
+
+			var price = randomPrice();
+			var factor = BigDecimal.valueOf(random.nextInt(10_000), random.nextInt(3));
+
+			assertThat(PriceArithmetic.multiplyScaled(price, factor)).isEqualTo(price.multiply(factor));
+		}
+	}
+
+	@Test
+	void addsAndSubtractsLikeMoney() {
+
+		for (int i = 0; i < 10_000; i++) {
+
+			var left = randomPrice();
+			var right = randomPrice();
+
+			assertThat(PriceArithmetic.addScaled(left, right, false)).isEqualTo(left.add(right));
+			assertThat(PriceArithmetic.addScaled(left, right, true)).isEqualTo(left.subtract(right));
+		}
+	}
+
+	@Test
+	void sumsUpLikeMoney() {
+
+		List<Priced> priced = new ArrayList<>();
+		MonetaryAmount expected = Currencies.ZERO_EURO;
+
+		for (int i = 0; i < 1_000; i++) {
+
+			var price = randomPrice();
+
+			priced.add(() -> price);
+			expected = expected.add(price);
+		}
+
+		assertThat(PriceArithmetic.sumScaled(priced)).isEqualTo(expected);
+		assertThat(PriceArithmetic.sumScaled(List.of())).isEqualTo(Currencies.ZERO_EURO);
+	}
+
+	@Test
+	void fallsBackToMoneyOnOverflow() {
+
+		var price = Money.of(new BigDecimal("999999999999.99"), Currencies.EURO);
+		var factor = BigDecimal.valueOf(1_000_000);
+
+		assertThat(PriceArithmetic.multiplyScaled(price, factor)).isEqualTo(price.multiply(factor));
+		assertThat(PriceArithmetic.addScaled(price, price, false)).isEqualTo(price.add(price));
+
+		var huge = Money.of(Long.MAX_VALUE, Currencies.EURO);
+
+		assertThat(PriceArithmetic.addScaled(huge, huge, false)).isEqualTo(huge.add(huge));
+		assertThat(PriceArithmetic.sumScaled(List.<Priced> of(() -> huge, () -> huge))).isEqualTo(huge.add(huge));
+	}
+
+	@Test
+	void fallsBackToMoneyForUnsupportedAmounts() {
+
+		var fast = FastMoney.of(1.5, Currencies.EURO);
+		var fine = Money.of(new BigDecimal("0.123456"), Currencies.EURO);
+
+		assertThat(PriceArithmetic.multiplyScaled(fast, BigDecimal.TEN)).isEqualTo(fast.multiply(BigDecimal.TEN));
+		assertThat(PriceArithmetic.addScaled(fine, fine, false)).isEqualTo(fine.add(fine));
+		assertThat(PriceArithmetic.multiplyScaled(fine, new BigDecimal("1.5"))).isEqualTo(fine.multiply(1.5));
+	}
+
+	@Test
+	void rejectsMixedCurrencies() {
+
+		var euro = Money.of(1, Currencies.EURO);
+		var dollar = Money.of(1, "USD");
+
+		assertThatExceptionOfType(MonetaryException.class) //
+				.isThrownBy(() -> PriceArithmetic.addScaled(euro, dollar, false));
+		assertThatExceptionOfType(MonetaryException.class) //
+				.isThrownBy(() -> PriceArithmetic.sumScaled(List.<Priced> of(() -> euro, () -> dollar)));
+	}
+
+	@Test
+	void resetsModeOnDestroy() {
+
+		var arithmetic = new PriceArithmetic(new OrderProperties(true));
+
+		try {
+			assertThat(PriceArithmetic.isEnabled()).isTrue();
+		} finally {
+			arithmetic.destroy();
+		}
+
+		assertThat(PriceArithmetic.isEnabled()).isFalse();
+	}
+
+	@Test
+	void keepsModeEnabledUntilAllEnablingContextsAreClosed() {
+
+		var first = new PriceArithmetic(new OrderProperties(true));
+		var second = new PriceArithmetic(new OrderProperties(true));
+		var disabled = new PriceArithmetic(new OrderProperties(false));
+
+		try {
+
+			assertThat(PriceArithmetic.isEnabled()).isTrue();
+
+			disabled.destroy();
+			first.destroy();
+			first.destroy();
+
+			assertThat(PriceArithmetic.isEnabled()).isTrue();
+
+		} finally {
+			first.destroy();
+			second.destroy();
+		}
+
+		assertThat(PriceArithmetic.isEnabled()).isFalse();
+	}
+
+	private MonetaryAmount randomPrice() {
+
+		var unscaled = random.nextLong() % 10_000_000_000L;
+
+		return Money.of(BigDecimal.valueOf(unscaled, random.nextInt(3)), Currencies.EURO);
+	}
+}
@@ -43,4 +43,18 @@ class MetricUnitTests {
 	void rejectsNullAbbreviationSource() {
 		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> Metric.from(null));
 	}
+
+	@Test
+	void looksUpMetricFromRegionOfSource() {
+
+		assertThat(Metric.from("5m2", 1, 3)).isEqualTo(Metric.SQUARE_METER);
+		assertThat(Metric.from("5kg", 1, 3)).isEqualTo(Metric.KILOGRAM);
+		assertThat(Metric.from("5", 1, 1)).isEqualTo(Metric.UNIT);
+		assertThat(Metric.from("5foo", 1, 4)).isNull();
+	}
+
+	@Test
+	void rejectsUnsupportedAbbreviation() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Metric.from("foo"));
+	}
 }
@@ -17,6 +17,7 @@ package org.salespointframework.quantity;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.stream.Stream;
@@ -81,6 +82,43 @@ class QuantityFormatterUnitTests {
 		void ignoresSpacesBetweenAmountAndMetricOnParsing() throws ParseException {
 			assertThat(formatter.parse("5,1   l", Locale.GERMAN)).isEqualTo(Quantity.of(5.1, Metric.LITER));
 		}
+
+		@Test
+		void treatsGroupingSeparatorLikeNumberFormat() throws ParseException {
+
+			assertThat(formatter.parse("1.000kg", Locale.GERMAN)).isEqualTo(Quantity.of(1000, Metric.KILOGRAM));
+			assertThat(formatter.parse("1,5", Locale.US)).isEqualTo(Quantity.of(15));
+
+			assertThatExceptionOfType(ParseException.class) //
+					.isThrownBy(() -> formatter.parse("5,", Locale.US)) //
+					.matches(it -> it.getErrorOffset() == 1) //
+					.withMessage("5,");
+		}
+
+		@Test
+		void rejectsPlusSignAndMissingDigits() {
+
+			assertThatExceptionOfType(ParseException.class) //
+					.isThrownBy(() -> formatter.parse("+5", Locale.US)) //
+					.matches(it -> it.getErrorOffset() == 0);
+
+			assertThatExceptionOfType(ParseException.class) //
+					.isThrownBy(() -> formatter.parse("-l", Locale.US)) //
+					.matches(it -> it.getErrorOffset() == 0) //
+					.withMessage("-");
+		}
+
+		@Test
+		void parsesAmountsExceedingLongRange() throws ParseException {
+
+			assertThat(formatter.parse("12345678901234567890,5", Locale.GERMAN)) //
+					.isEqualTo(Quantity.of(new BigDecimal("12345678901234567890.5"), Metric.UNIT));
+		}
+
+		@Test
+		void returnsCanonicalInstancesForSmallUnitAmounts() throws ParseException {
+			assertThat(formatter.parse("5", Locale.US)).isSameAs(Quantity.of(5));
+		}
 	}
 
 	/**
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.quantity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QuantitySum}.
+ *
+ * @author Oliver Drotbohm
+ */
+class QuantitySumUnitTests {
+
+	@Test
+	void sumsUpQuantitiesLikeReduction() {
+
+		assertThat(Stream.of(Quantity.of(1), Quantity.of(2), Quantity.of(0.5)).collect(QuantitySum.summing())) //
+				.hasValue(Quantity.of(3.5));
+		assertThat(Stream.of(Quantity.of(1.5, Metric.LITER), Quantity.of(2, Metric.LITER)).collect(QuantitySum.summing())) //
+				.hasValue(Quantity.of(3.5, Metric.LITER));
+	}
+
+	@Test
+	void considersNoneCompatibleWithAllMetrics() {
+
+		assertThat(Stream.of(Quantity.NONE, Quantity.of(2, Metric.KILOGRAM)).collect(QuantitySum.summing())) //
+				.hasValue(Quantity.of(2, Metric.KILOGRAM));
+		assertThat(Stream.of(Quantity.NONE).collect(QuantitySum.summing())).hasValue(Quantity.NONE);
+		assertThat(Stream.<Quantity> empty().collect(QuantitySum.summing())).isEmpty();
+	}
+
+	@Test
+	void rejectsIncompatibleMetrics() {
+
+		var sum = new QuantitySum().add(Quantity.of(1));
+
+		assertThatExceptionOfType(MetricMismatchException.class) //
+				.isThrownBy(() -> sum.add(Quantity.of(1, Metric.LITER)));
+	}
+
+	@Test
+	void fallsBackToBigDecimalOnOverflow() {
+
+		var result = new QuantitySum() //
+				.add(Quantity.of(Long.MAX_VALUE)) //
+				.add(Quantity.of(Long.MAX_VALUE)) //
+				.toQuantity();
+
+		assertThat(result).hasValue(Quantity.of(Long.MAX_VALUE).add(Quantity.of(Long.MAX_VALUE)));
+	}
+
+	@Test
+	void sumsUpParallelStreams() {
+
+		var expected = IntStream.rangeClosed(1, 10_000).mapToObj(Quantity::of).reduce(Quantity::add);
+		var result = IntStream.rangeClosed(1, 10_000).parallel().mapToObj(Quantity::of).collect(QuantitySum.summing());
+
+		assertThat(result).isEqualTo(expected);
+	}
+}
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -166,4 +168,70 @@ class QuantityUnitTests {
 		assertThat(left.isEqualTo(right)).isTrue();
 		assertThat(left).isNotEqualTo(right);
 	}
+
+	@Test
+	void fallsBackToBigDecimalOnOverflow() {
+
+		var max = Quantity.of(Long.MAX_VALUE);
+		var expected = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE);
+
+		assertThat(max.add(Quantity.of(1)).getAmount()).isEqualTo(expected);
+		assertThat(Quantity.of(Long.MIN_VALUE).subtract(Quantity.of(1)).getAmount())
+				.isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE).subtract(BigDecimal.ONE));
+		assertThat(max.times(2).getAmount()).isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)));
+		assertThat(max.add(Quantity.of(1)).subtract(Quantity.of(1))).isEqualTo(max);
+	}
+
+	@Test
+	void considersWholeNumberUnitQuantitiesEqualRegardlessOfCreation() {
+
+		var quantity = Quantity.of(BigDecimal.valueOf(5), Metric.UNIT);
+
+		assertThat(quantity).isEqualTo(Quantity.of(5));
+		assertThat(quantity.hashCode()).isEqualTo(Quantity.of(5).hashCode());
+		assertThat(Quantity.of(2).times(3).add(Quantity.of(1)).subtract(Quantity.of(2))).isEqualTo(quantity);
+	}
+
+	@Test
+	void normalizesUnitQuantitiesPopulatedViaSetters() {
+
+		var quantity = new Quantity();
+
+		quantity.setAmount(new BigDecimal("5.00"));
+		quantity.setMetric(Metric.UNIT);
+
+		assertThat(quantity).isEqualTo(Quantity.of(5));
+		assertThat(quantity.getAmount()).isEqualTo(BigDecimal.valueOf(5));
+	}
+
+	@Test
+	void mixesCompactAndDecimalUnitQuantities() {
+
+		assertThat(Quantity.of(1).add(Quantity.of(0.5))).isEqualTo(Quantity.of(1.5));
+		assertThat(Quantity.of(1).isLessThan(Quantity.of(1.5))).isTrue();
+		assertThat(Quantity.of(2).isGreaterThanOrEqualTo(Quantity.of(2.0))).isTrue();
+		assertThat(Quantity.of(-1).isZeroOrNegative()).isTrue();
+	}
+
+	@Test
+	void doesNotShareInstancesWrittenToByThePersistenceProvider() {
+
+		var quantity = Quantity.of(5, Metric.LITER);
+
+		assertThat(quantity).isNotSameAs(Quantity.of(5, Metric.LITER));
+		assertThat(Quantity.of(2).add(Quantity.of(3))).isNotSameAs(Quantity.of(5));
+
+		// Simulate a merge writing into an embedded instance
+		quantity.setAmount(BigDecimal.valueOf(6));
+
+		assertThat(quantity).isEqualTo(Quantity.of(6, Metric.LITER));
+		assertThat(Quantity.of(5, Metric.LITER).getAmount()).isEqualByComparingTo("5");
+	}
+
+	@Test
+	void doesNotReturnNoneForZero() {
+
+		assertThat(Quantity.of(0)).isNotSameAs(Quantity.NONE);
+		assertThat(Quantity.of(0).subtract(Quantity.of(1))).isEqualTo(Quantity.of(-1));
+	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.salespointframework.core.Currencies.*;
+
+import java.math.BigDecimal;
+
+import javax.persistence.EntityManager;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.moduliths.test.ModuleTest;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link EmbeddableMonetaryAmountMigration}.
+ *
+ * @author Oliver Drotbohm
+ */
+@Transactional
+@ModuleTest(extraIncludes = "org.salespointframework.catalog")
+class EmbeddableMonetaryAmountMigrationIntegrationTests {
+
+	@Autowired EmbeddableMonetaryAmountMigration migration;
+	@Autowired Catalog<Product> catalog;
+	@Autowired EntityManager em;
+
+	@Test
+	void populatesNumericColumnsFromLegacyColumn() {
+
+		var product = catalog.save(new Product("iPad", Money.of(400, EURO)));
+		var identifier = product.getId().getIdentifier();
+
+		em.flush();
+		em.createNativeQuery("update product set price_amount = null, price_currency = null, price = ?1 " //
+				+ "where product_id = ?2") //
+				.setParameter(1, "EUR 12.50") //
+				.setParameter(2, identifier) //
+				.executeUpdate();
+
+		assertThat(migration.migrate()).isEqualTo(1);
+
+		em.clear();
+
+		var row = (Object[]) em.createNativeQuery("select price_amount, price_currency from product where product_id = ?1") //
+				.setParameter(1, identifier) //
+				.getSingleResult();
+
+		assertThat((BigDecimal) row[0]).isEqualByComparingTo("12.50");
+		assertThat(row[1]).isEqualTo("EUR");
+		assertThat(migration.migrate()).isZero();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link EmbeddableMonetaryAmount}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EmbeddableMonetaryAmountUnitTests {
+
+	@Test
+	void splitsMonetaryAmountIntoNumberAndCurrency() {
+
+		var amount = EmbeddableMonetaryAmount.of(Money.of(12.5, "EUR"));
+
+		assertThat((BigDecimal) ReflectionTestUtils.getField(amount, "amount")).isEqualByComparingTo("12.5");
+		assertThat(ReflectionTestUtils.getField(amount, "currency")).isEqualTo("EUR");
+		assertThat(amount.toMonetaryAmount()).isEqualTo(Money.of(12.5, "EUR"));
+	}
+
+	@Test
+	void createsMonetaryAmountFromNumericColumns() {
+
+		var amount = new EmbeddableMonetaryAmount();
+
+		ReflectionTestUtils.setField(amount, "amount", new BigDecimal("12.500000000000000000"));
+		ReflectionTestUtils.setField(amount, "currency", "EUR");
+
+		assertThat(amount.toMonetaryAmount()).isEqualTo(Money.of(12.5, "EUR"));
+	}
+
+	@Test
+	void migratesLegacyStringRepresentation() {
+
+		var amount = new EmbeddableMonetaryAmount();
+
+		ReflectionTestUtils.setField(amount, "legacy", "EUR 12.50");
+
+		assertThat(amount.toMonetaryAmount()).isEqualTo(Money.of(12.5, "EUR"));
+		assertThat(ReflectionTestUtils.getField(amount, "currency")).isEqualTo("EUR");
+		assertThat(ReflectionTestUtils.getField(amount, "amount")).isNotNull();
+	}
+
+	@Test
+	void rejectsMissingValues() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> new EmbeddableMonetaryAmount().toMonetaryAmount());
+	}
+}
@@ -15,11 +15,16 @@
  */
 package org.salespointframework.time;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.junit.MatcherAssert.*;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +52,90 @@ class IntervalsUnitTests {
 
 		assertThat(intervals, is(iterableWithSize(4)));
 	}
+
+	@Test
+	void reportsSizeWithoutIterating() {
+
+		Interval interval = Interval.from(LocalDateTime.of(2020, 1, 1, 0, 0)).withLength(Duration.ofDays(10));
+
+		assertThat(Intervals.divide(interval, Duration.ofDays(2)).size(), is(5L));
+		assertThat(Intervals.divide(interval, Duration.ofDays(3)).size(), is(4L));
+		assertThat(Intervals.divide(interval, Duration.ofDays(20)).size(), is(1L));
+		assertThat(Intervals.divide(interval, Period.ofDays(3)).size(), is(4L));
+	}
+
+	@Test
+	void dividesEmptyIntervalIntoSingleInterval() {
+
+		LocalDateTime now = LocalDateTime.now();
+		Intervals intervals = Intervals.divide(Interval.from(now).to(now), Duration.ofHours(1));
+
+		assertThat(intervals.size(), is(1L));
+		assertThat(intervals.toList(), contains(Interval.from(now).to(now)));
+	}
+
+	@Test
+	void dividesYearIntoMinutes() {
+
+		Interval interval = Interval.from(LocalDateTime.of(2020, 1, 1, 0, 0)).withLength(Period.ofYears(1));
+		Intervals intervals = Intervals.divide(interval, Duration.ofMinutes(1));
+
+		assertThat(intervals.size(), is(366L * 24 * 60));
+		assertThat(intervals.stream().count(), is(366L * 24 * 60));
+	}
+
+	@Test
+	void splitsIntoSameIntervalsAsIteration() {
+
+		Interval interval = Interval.from(LocalDateTime.of(2020, 1, 1, 0, 0)).withLength(Duration.ofDays(7));
+		Intervals intervals = Intervals.divide(interval, Duration.ofMinutes(7));
+
+		assertThat(intervals.stream().parallel().collect(Collectors.toList()), is(iterate(intervals)));
+	}
+
+	@Test
+	void calculatesSizeOfDayBasedPeriodsLikeIteration() {
+
+		Interval interval = Interval.from(LocalDateTime.of(2020, 1, 1, 6, 0))
+				.withLength(Duration.ofDays(400).plusHours(5));
+
+		for (Period period : List.of(Period.ofDays(1), Period.ofDays(7), Period.ofWeeks(2), Period.ofDays(400))) {
+
+			Intervals intervals = Intervals.divide(interval, period);
+
+			assertThat(intervals.size(), is((long) iterate(intervals).size()));
+		}
+
+		assertThat(Intervals.divide(interval, Period.ofDays(7)).size(), is(58L));
+	}
+
+	@Test
+	void splitsMonthlyIntervalsLikeIteration() {
+
+		Interval interval = Interval.from(LocalDateTime.of(2020, 1, 31, 0, 0)).withLength(Period.ofYears(3));
+		Intervals intervals = Intervals.divide(interval, Period.ofMonths(1));
+
+		List<Interval> expected = iterate(intervals);
+
+		assertThat(intervals.size(), is((long) expected.size()));
+		assertThat(intervals.stream().parallel().collect(Collectors.toList()), is(expected));
+		assertThat(expected.get(expected.size() - 1).getEnd(), is(interval.getEnd()));
+	}
+
+	@Test
+	void rejectsNonPositiveDuration() {
+
+		Interval interval = Interval.from(LocalDateTime.now()).withLength(Duration.ofDays(10));
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> Intervals.divide(interval, Duration.ZERO));
+	}
+
+	private static List<Interval> iterate(Intervals intervals) {
+
+		List<Interval> result = new ArrayList<>();
+		intervals.iterator().forEachRemaining(result::add);
+
+		return result;
+	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BCryptCalibration}.
+ *
+ * @author Oliver Drotbohm
+ */
+class BCryptCalibrationUnitTests {
+
+	@Test
+	void fallsBackToMinimumStrengthForUnreachableLatency() {
+		assertThat(BCryptCalibration.calibrate(Duration.ZERO)).isEqualTo(4);
+	}
+
+	@Test
+	void measuresHashingTime() {
+		assertThat(BCryptCalibration.measure(4)).isGreaterThan(Duration.ZERO);
+	}
+
+	@Test
+	void rejectsInvalidInput() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> BCryptCalibration.measure(3));
+		assertThatIllegalArgumentException().isThrownBy(() -> BCryptCalibration.measure(32));
+		assertThatIllegalArgumentException().isThrownBy(() -> BCryptCalibration.calibrate(Duration.ofMillis(-1)));
+	}
+}
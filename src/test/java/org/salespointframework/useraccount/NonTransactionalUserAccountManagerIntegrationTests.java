@@ -17,11 +17,21 @@ package org.salespointframework.useraccount;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.moduliths.test.ModuleTest;
 import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.salespointframework.useraccount.UserAccount.UserAccountCreated;
+import org.salespointframework.useraccount.UserAccountCreationReport.Status;
+import org.salespointframework.useraccount.UserAccountCreationReport.UserAccountCreation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
 import org.springframework.test.context.TestPropertySource;
 
 /**
@@ -37,6 +47,8 @@ class NonTransactionalUserAccountManagerIntegrationTests {
 
 	@Autowired UserAccountManager userAccountManager;
 	@Autowired UserAccountRepository repository;
+	@Autowired AuthenticationManager authenticationManager;
+	@Autowired CreationThreads threads;
 
 	@AfterEach
 	void cleanUp() {
@@ -72,4 +84,95 @@ class NonTransactionalUserAccountManagerIntegrationTests {
 
 		assertThat(userAccountManager.findByUsername(reference.getUsername())).isEmpty();
 	}
+
+	@Test
+	void createsUserAccountsInBulk() {
+
+		userAccountManager.create("existing", PASSWORD, "existing@bar.de");
+
+		var report = userAccountManager.createAll(Stream.of( //
+				UserAccountSpec.of("first", PASSWORD, Role.of("CUSTOMER")).withEmail("first@bar.de"), //
+				UserAccountSpec.of("existing", PASSWORD).withEmail("other@bar.de"), //
+				UserAccountSpec.of("first", PASSWORD).withEmail("another@bar.de"), //
+				UserAccountSpec.of("second", PASSWORD).withEmail("existing@bar.de"), //
+				UserAccountSpec.of("third", PASSWORD), //
+				UserAccountSpec.of("fourth", PASSWORD).withEmail("fourth@bar.de")));
+
+		assertThat(report.map(UserAccountCreation::getStatus)).containsExactly( //
+				Status.CREATED, Status.USERNAME_TAKEN, Status.USERNAME_TAKEN, Status.EMAIL_TAKEN, Status.INVALID,
+				Status.CREATED);
+		assertThat(report.map(UserAccountCreation::getIndex)).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+		assertThat(report.getCreated().map(UserAccountCreation::getUsername)).containsExactly("first", "fourth");
+		assertThat(report.hasErrors()).isTrue();
+
+		assertThat(userAccountManager.findByUsername("first")).hasValueSatisfying(it -> {
+			assertThat(it.getEmail()).isEqualTo("first@bar.de");
+			assertThat(it.hasRole(Role.of("CUSTOMER"))).isTrue();
+			assertThat(authenticationManager.matches(PASSWORD, it.getPassword())).isTrue();
+		});
+		assertThat(userAccountManager.findByUsername("fourth")).isPresent();
+		assertThat(userAccountManager.findByUsername("second")).isEmpty();
+		assertThat(userAccountManager.findByUsername("third")).isEmpty();
+	}
+
+	@Test
+	void createsUserAccountAndChangesPasswordAsynchronously() throws Exception {
+
+		threads.getNames().clear();
+
+		UserAccount reference = userAccountManager.createAsync("username", PASSWORD, "foo@bar.de").get();
+
+		assertThat(userAccountManager.findByUsername("username")).hasValue(reference);
+		assertThat(authenticationManager.matchesAsync(PASSWORD, reference.getPassword()).get()).isTrue();
+
+		var newPassword = UnencryptedPassword.of("newPassword");
+
+		var previousPassword = reference.getPassword();
+
+		userAccountManager.changePasswordAsync(reference, newPassword).get();
+
+		var password = userAccountManager.findByUsername("username").orElseThrow().getPassword();
+
+		assertThat(authenticationManager.matchesAsync(newPassword, password).get()).isTrue();
+		assertThat(authenticationManager.matchesAsync(PASSWORD, password).get()).isFalse();
+
+		// Applied to a freshly loaded instance
+		assertThat(reference.getPassword()).isEqualTo(previousPassword);
+
+		// Persisted on the dedicated pool, not the hashing threads
+		assertThat(threads.getNames()).hasSize(1) //
+				.allSatisfy(it -> assertThat(it).startsWith("salespoint-user-account-persistence-"));
+	}
+
+	@Test
+	void rejectsExistingUsernameBeforeHashingAsynchronously() {
+
+		userAccountManager.create("username", PASSWORD, "foo@bar.de");
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> userAccountManager.createAsync("username", PASSWORD, "other@bar.de"));
+	}
+
+	@TestConfiguration
+	static class CreationThreadsConfiguration {
+
+		@Bean
+		CreationThreads creationThreads() {
+			return new CreationThreads();
+		}
+	}
+
+	static class CreationThreads {
+
+		private final List<String> names = new CopyOnWriteArrayList<>();
+
+		@EventListener
+		void on(UserAccountCreated event) {
+			names.add(Thread.currentThread().getName());
+		}
+
+		List<String> getNames() {
+			return names;
+		}
+	}
 }
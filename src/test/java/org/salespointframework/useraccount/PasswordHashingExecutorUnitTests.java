@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.useraccount.Password.EncryptedPassword;
+import org.salespointframework.useraccount.Password.UnencryptedPassword;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for {@link PasswordHashingExecutor}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PasswordHashingExecutorUnitTests {
+
+	CountDownLatch release = new CountDownLatch(1);
+	PasswordHashingExecutor executor = new PasswordHashingExecutor(new BlockingPasswordEncoder(release),
+			new PasswordHashingProperties(1, 1));
+
+	@AfterEach
+	void tearDown() {
+		executor.destroy();
+	}
+
+	@Test
+	void hashesAndVerifiesPasswordsAsynchronously() throws Exception {
+
+		release.countDown();
+
+		assertThat(executor.encrypt(UnencryptedPassword.of("password")).get()) //
+				.isEqualTo(EncryptedPassword.of("{hashed}password"));
+		assertThat(executor.matches(UnencryptedPassword.of("password"), EncryptedPassword.of("{hashed}password")).get())
+				.isTrue();
+		assertThat(executor.matches(null, EncryptedPassword.of("{hashed}password")).get()).isFalse();
+
+		var statistics = executor.getStatistics();
+
+		assertThat(statistics.getCompleted()).isEqualTo(2);
+		assertThat(statistics.getRejected()).isZero();
+		assertThat(statistics.getMaxLatency()).isGreaterThanOrEqualTo(statistics.getAverageLatency());
+	}
+
+	@Test
+	void rejectsHashingRequestsExceedingTheQueueCapacity() throws Exception {
+
+		var running = executor.encrypt(UnencryptedPassword.of("first"));
+		var queued = executor.encrypt(UnencryptedPassword.of("second"));
+
+		// Wait for the first request to occupy the only thread so that the second one is queued
+		while (executor.getStatistics().getActive() == 0) {
+			Thread.sleep(10);
+		}
+
+		var rejected = executor.encrypt(UnencryptedPassword.of("third"));
+
+		assertThat(rejected).isCompletedExceptionally();
+		assertThatExceptionOfType(ExecutionException.class) //
+				.isThrownBy(rejected::get) //
+				.withCauseInstanceOf(RejectedExecutionException.class);
+
+		assertThat(executor.getStatistics().getQueueDepth()).isEqualTo(1);
+		assertThat(executor.getStatistics().getRejected()).isEqualTo(1);
+
+		release.countDown();
+
+		assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo(EncryptedPassword.of("{hashed}first"));
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo(EncryptedPassword.of("{hashed}second"));
+	}
+
+	@Test
+	void encryptsPasswordsInBulkWithoutExceedingTheQueueCapacity() {
+
+		release.countDown();
+
+		var passwords = IntStream.range(0, 10) //
+				.mapToObj(it -> UnencryptedPassword.of("password" + it)) //
+				.collect(Collectors.toList());
+
+		assertThat(executor.encryptAll(passwords)) //
+				.containsExactlyElementsOf(IntStream.range(0, 10) //
+						.mapToObj(it -> EncryptedPassword.of("{hashed}password" + it)) //
+						.collect(Collectors.toList()));
+
+		assertThat(executor.getStatistics().getCompleted()).isEqualTo(10);
+		assertThat(executor.getStatistics().getRejected()).isZero();
+	}
+
+	private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+		private final CountDownLatch release;
+
+		BlockingPasswordEncoder(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+
+			try {
+				release.await();
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			}
+
+			return "{hashed}" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+	}
+}
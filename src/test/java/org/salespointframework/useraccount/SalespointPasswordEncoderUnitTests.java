@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Unit tests for {@link SalespointPasswordEncoder}.
+ *
+ * @author Oliver Drotbohm
+ */
+class SalespointPasswordEncoderUnitTests {
+
+	SalespointPasswordEncoder encoder = new SalespointPasswordEncoder(new PasswordEncodingProperties(4, null));
+
+	@Test
+	void prefixesHashesWithVersion() {
+
+		var hash = encoder.encode("password");
+
+		assertThat(hash).startsWith("{bcrypt}$2a$04$");
+		assertThat(encoder.matches("password", hash)).isTrue();
+		assertThat(encoder.matches("other", hash)).isFalse();
+		assertThat(encoder.upgradeEncoding(hash)).isFalse();
+	}
+
+	@Test
+	void matchesAndUpgradesLegacyHashesWithoutPrefix() {
+
+		var legacy = new BCryptPasswordEncoder(4).encode("password");
+
+		assertThat(encoder.matches("password", legacy)).isTrue();
+		assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+	}
+
+	@Test
+	void upgradesHashesWithDifferentStrength() {
+
+		var weaker = "{bcrypt}" + new BCryptPasswordEncoder(5).encode("password");
+		var stronger = new SalespointPasswordEncoder(new PasswordEncodingProperties(6, null)).encode("password");
+
+		assertThat(encoder.matches("password", weaker)).isTrue();
+		assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+		assertThat(encoder.matches("password", stronger)).isTrue();
+		assertThat(encoder.upgradeEncoding(stronger)).isTrue();
+	}
+}
@@ -36,7 +36,10 @@ import org.salespointframework.useraccount.SpringSecurityAuthenticationManager.U
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Units tests for {@link SpringSecurityAuthenticationManager}.
@@ -58,12 +61,14 @@ class SpringSecurityAuthenticationManagerUnitTests {
 	void setUp() {
 
 		this.account = createAccount();
-		this.authenticationManager = new SpringSecurityAuthenticationManager(repository, passwordEncoder, config);
+		this.authenticationManager = new SpringSecurityAuthenticationManager(repository, passwordEncoder, config,
+				cache(false), hashing());
 	}
 
 	@AfterEach
 	void resetAuthentication() {
 		SecurityContextHolder.getContext().setAuthentication(null);
+		RequestContextHolder.resetRequestAttributes();
 	}
 
 	@Test // #76
@@ -84,6 +89,60 @@ class SpringSecurityAuthenticationManagerUnitTests {
 		assertThat(currentUser.get(), is(account));
 	}
 
+	@Test
+	void memoizesCurrentUserPerRequest() {
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		authenticate(account);
+
+		doReturn(Optional.of(account)).when(repository).findById(account.getId());
+
+		assertThat(authenticationManager.getCurrentUser()).hasValue(account);
+		assertThat(authenticationManager.getCurrentUser()).hasValue(account);
+
+		verify(repository, times(1)).findById(account.getId());
+
+		CurrentUserAccountCache.invalidate();
+		authenticationManager.getCurrentUser();
+
+		verify(repository, times(2)).findById(account.getId());
+	}
+
+	@Test
+	void discardsMemoizedCurrentUserIfAuthenticationChanges() {
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		authenticate(account);
+
+		doReturn(Optional.of(account)).when(repository).findById(account.getId());
+
+		assertThat(authenticationManager.getCurrentUser()).hasValue(account);
+
+		SecurityContextHolder.getContext().setAuthentication(null);
+
+		assertThat(authenticationManager.getCurrentUser()).isEmpty();
+
+		authenticate(account);
+
+		assertThat(authenticationManager.getCurrentUser()).hasValue(account);
+		verify(repository, times(2)).findById(account.getId());
+	}
+
+	@Test
+	void doesNotMemoizeCurrentUserOutsideOfRequests() {
+
+		authenticate(account);
+
+		doReturn(Optional.of(account)).when(repository).findById(account.getId());
+
+		authenticationManager.getCurrentUser();
+		authenticationManager.getCurrentUser();
+
+		verify(repository, times(2)).findById(account.getId());
+	}
+
 	@Test
 	void delegatesPasswordMatchCorrectly() {
 
@@ -102,7 +161,7 @@ class SpringSecurityAuthenticationManagerUnitTests {
 	void usesByEmailLookupIfConfigured() {
 
 		SpringSecurityAuthenticationManager authenticationManager = new SpringSecurityAuthenticationManager(repository,
-				passwordEncoder, new AuthenticationProperties(true));
+				passwordEncoder, new AuthenticationProperties(true), cache(false), hashing());
 
 		doReturn(Optional.of(account)).when(repository).findByEmail(any());
 
@@ -129,6 +188,89 @@ class SpringSecurityAuthenticationManagerUnitTests {
 				.allMatch(it -> it.getAuthority().startsWith("ROLE_"));
 	}
 
+	@Test
+	void cachesUserDetailsIfEnabled() {
+
+		var cache = cache(true);
+		var authenticationManager = new SpringSecurityAuthenticationManager(repository, passwordEncoder, config, cache,
+				hashing());
+
+		doReturn(Optional.of(account)).when(repository).findById(account.getId());
+
+		var first = authenticationManager.loadUserByUsername(account.getUsername());
+		var second = authenticationManager.loadUserByUsername(account.getUsername());
+
+		assertThat(second).isSameAs(first);
+		verify(repository, times(1)).findById(account.getId());
+
+		cache.invalidate(account);
+		authenticationManager.loadUserByUsername(account.getUsername());
+
+		verify(repository, times(2)).findById(account.getId());
+	}
+
+	@Test
+	void cachesUserDetailsLookedUpByEmail() {
+
+		var cache = cache(true);
+		var authenticationManager = new SpringSecurityAuthenticationManager(repository, passwordEncoder,
+				new AuthenticationProperties(true), cache, hashing());
+
+		doReturn(Optional.of(account)).when(repository).findByEmail("foo@bar.com");
+
+		authenticationManager.loadUserByUsername("foo@bar.com");
+		authenticationManager.loadUserByUsername("foo@bar.com");
+
+		verify(repository, times(1)).findByEmail("foo@bar.com");
+
+		cache.invalidate(account);
+		authenticationManager.loadUserByUsername("foo@bar.com");
+
+		verify(repository, times(2)).findByEmail("foo@bar.com");
+	}
+
+	@Test
+	void verifiesPasswordsAsynchronously() throws Exception {
+
+		EncryptedPassword existing = EncryptedPassword.of("password");
+
+		when(passwordEncoder.matches("password", "password")).thenReturn(true);
+
+		assertThat(authenticationManager.matchesAsync(UnencryptedPassword.of("password"), existing).get()).isTrue();
+		assertThat(authenticationManager.matchesAsync(UnencryptedPassword.of("failing"), existing).get()).isFalse();
+		assertThat(authenticationManager.matchesAsync(null, existing).get()).isFalse();
+	}
+
+	@Test
+	void storesPasswordRehashedOnLogin() {
+
+		var cache = cache(true);
+		var authenticationManager = new SpringSecurityAuthenticationManager(repository, passwordEncoder, config, cache,
+				hashing());
+
+		doReturn(Optional.of(account)).when(repository).findById(account.getId());
+		doAnswer(it -> it.getArgument(0)).when(repository).save(account);
+
+		var details = authenticationManager.loadUserByUsername(account.getUsername());
+		var updated = authenticationManager.updatePassword(details, "{bcrypt}rehashed");
+
+		assertThat(account.getPassword()).isEqualTo(EncryptedPassword.of("{bcrypt}rehashed"));
+		assertThat(updated.getPassword()).isEqualTo("{bcrypt}rehashed");
+
+		// Cached details were invalidated
+		authenticationManager.loadUserByUsername(account.getUsername());
+
+		verify(repository, times(3)).findById(account.getId());
+	}
+
+	private PasswordHashingExecutor hashing() {
+		return new PasswordHashingExecutor(passwordEncoder, new PasswordHashingProperties(null, null));
+	}
+
+	private static UserDetailsCache cache(boolean enabled) {
+		return new UserDetailsCache(new UserDetailsCacheProperties(enabled, null, null));
+	}
+
 	private static void authenticate(UserAccount account) {
 
 		UserAccountDetails accountDetails = new UserAccountDetails(account);
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.useraccount;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.useraccount.Password.EncryptedPassword;
+import org.salespointframework.useraccount.SpringSecurityAuthenticationManager.UserAccountDetails;
+
+/**
+ * Unit tests for {@link UserDetailsCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class UserDetailsCacheUnitTests {
+
+	static final Instant NOW = Instant.parse("2020-01-01T00:00:00Z");
+
+	Clock clock = mock(Clock.class);
+	UserDetailsCache cache;
+
+	UserAccount first = account("first"), second = account("second"), third = account("third");
+
+	@BeforeEach
+	void setUp() {
+
+		when(clock.instant()).thenReturn(NOW);
+
+		this.cache = new UserDetailsCache(new UserDetailsCacheProperties(true, 2, Duration.ofMinutes(1)), clock);
+	}
+
+	@Test
+	void returnsCachedDetails() {
+
+		var loads = new AtomicInteger();
+
+		var details = cache.get("first", () -> load(first, loads));
+
+		assertThat(cache.get("first", () -> load(first, loads))).isSameAs(details);
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(cache.getStatistics()).isEqualTo(new UserDetailsCache.Statistics(1, 1, 1, 0, 0));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		var loads = new AtomicInteger();
+
+		cache.get("first", () -> load(first, loads));
+		cache.get("second", () -> load(second, loads));
+		cache.get("first", () -> load(first, loads)); // first is now the most recently used one
+		cache.get("third", () -> load(third, loads));
+
+		cache.get("first", () -> load(first, loads));
+		assertThat(loads.get()).isEqualTo(3);
+
+		cache.get("second", () -> load(second, loads));
+		assertThat(loads.get()).isEqualTo(4);
+
+		assertThat(cache.getStatistics().getEvictions()).isEqualTo(2);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+	}
+
+	@Test
+	void expiresEntriesAfterTimeToLive() {
+
+		var loads = new AtomicInteger();
+
+		cache.get("first", () -> load(first, loads));
+
+		when(clock.instant()).thenReturn(NOW.plusSeconds(59));
+		cache.get("first", () -> load(first, loads));
+		assertThat(loads.get()).isEqualTo(1);
+
+		when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+		cache.get("first", () -> load(first, loads));
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidatesAllEntriesForUserAccount() {
+
+		var loads = new AtomicInteger();
+
+		cache.get("first", () -> load(first, loads));
+		cache.get("old@example.com", () -> load(first, loads));
+
+		cache.invalidate(first);
+
+		assertThat(cache.getStatistics().getSize()).isZero();
+		assertThat(cache.getStatistics().getInvalidations()).isEqualTo(2);
+
+		cache.get("first", () -> load(first, loads));
+		assertThat(loads.get()).isEqualTo(3);
+	}
+
+	@Test
+	void doesNotCacheDetailsLoadedConcurrentlyWithInvalidation() {
+
+		var loads = new AtomicInteger();
+
+		cache.get("first", () -> {
+
+			cache.invalidate(first);
+
+			return load(first, loads);
+		});
+
+		assertThat(cache.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	void alwaysLoadsIfDisabled() {
+
+		var cache = new UserDetailsCache(new UserDetailsCacheProperties(false, null, null), clock);
+		var loads = new AtomicInteger();
+
+		cache.get("first", () -> load(first, loads));
+		cache.get("first", () -> load(first, loads));
+
+		assertThat(loads.get()).isEqualTo(2);
+		assertThat(cache.getStatistics().getSize()).isZero();
+	}
+
+	private static UserAccountDetails load(UserAccount account, AtomicInteger loads) {
+
+		loads.incrementAndGet();
+
+		return new UserAccountDetails(account);
+	}
+
+	private static UserAccount account(String name) {
+		return new UserAccount(new UserAccountIdentifier(name), EncryptedPassword.of("encrypted"));
+	}
+}